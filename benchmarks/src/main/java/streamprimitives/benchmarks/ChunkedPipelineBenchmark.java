@@ -0,0 +1,86 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.chunk.ChunkedDoublePipeline;
+import streamprimitives.chunk.ChunkedIntPipeline;
+
+/**
+ * The same map/filter/sum chains through the standard {@code IntStream}/{@code DoubleStream}
+ * path and through the chunked pipelines. Add {@code -prof perfasm} to check whether the
+ * chunk loops were vectorized.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChunkedPipelineBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"1024"})
+    int chunkSize;
+
+    int[] ints;
+    double[] doubles;
+
+    @Setup
+    public void setUp() {
+        ints = IntStream.range(0, size).map(i -> i % 1000).toArray();
+        doubles = IntStream.range(0, size).mapToDouble(i -> i % 1000 * 0.5).toArray();
+    }
+
+    @Benchmark
+    public long streamIdentityMapSum() {
+        return IntStream.of(ints).map(s -> s).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long chunkedIdentityMapSum() {
+        return ChunkedIntPipeline.of(ints).chunkSize(chunkSize).map(s -> s).sum();
+    }
+
+    @Benchmark
+    public long streamMapFilterSum() {
+        return IntStream.of(ints).map(s -> s * 3 + 1).filter(s -> (s & 1) == 0).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long chunkedMapFilterSum() {
+        return ChunkedIntPipeline.of(ints).chunkSize(chunkSize)
+                .map(s -> s * 3 + 1).filter(s -> (s & 1) == 0).sum();
+    }
+
+    @Benchmark
+    public double streamDoubleMapSum() {
+        return DoubleStream.of(doubles).map(d -> d * 1.5 + 2.0).sum();
+    }
+
+    @Benchmark
+    public double chunkedDoubleMapSum() {
+        return ChunkedDoublePipeline.of(doubles).chunkSize(chunkSize).map(d -> d * 1.5 + 2.0).sum();
+    }
+
+    @Benchmark
+    public double streamDoubleMapSimpleSum() {
+        // DoubleStream.sum() is compensated; this is the like-for-like uncompensated reduction
+        return DoubleStream.of(doubles).map(d -> d * 1.5 + 2.0).reduce(0.0d, Double::sum);
+    }
+}
@@ -0,0 +1,111 @@
+package streamprimitives.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.column.ColumnFile;
+import streamprimitives.column.ColumnWriter;
+import streamprimitives.io.MappedStreams;
+import streamprimitives.io.PrimitiveBinarySink;
+
+/**
+ * Spilling a column of timestamps to disk and reading it back: a raw little-endian file
+ * scanned through {@link MappedStreams} against a compressed {@link ColumnFile} scanned as a
+ * stream and answered from its block index. The setup prints both file sizes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    Path rawFile;
+    Path columnFile;
+    ColumnFile column;
+    long lo;
+    long hi;
+
+    @Setup
+    public void setUp() throws IOException {
+        rawFile = Files.createTempFile("column-benchmark", ".raw");
+        columnFile = Files.createTempFile("column-benchmark", ".col");
+        try (PrimitiveBinarySink sink = PrimitiveBinarySink.toFile(rawFile)) {
+            sink.writeAll(timestamps());
+        }
+        ColumnWriter.write(columnFile, timestamps());
+        column = ColumnFile.open(columnFile);
+        lo = 1_700_000_000_000L + size * 250L;
+        hi = 1_700_000_000_000L + size * 500L;
+        System.out.println("raw " + Files.size(rawFile) + " bytes, column " + Files.size(columnFile) + " bytes");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        column.close();
+        Files.delete(rawFile);
+        Files.delete(columnFile);
+    }
+
+    /**
+     * Millisecond timestamps about a second apart.
+     */
+    LongStream timestamps() {
+        return LongStream.range(0, size).map(i -> 1_700_000_000_000L + i * 1000 + i * 7919 % 13);
+    }
+
+    @Benchmark
+    public long rawScanSum() throws IOException {
+        return MappedStreams.longs(rawFile).sum();
+    }
+
+    @Benchmark
+    public long columnScanSum() {
+        return column.longs().sum();
+    }
+
+    @Benchmark
+    public long columnIndexSum() {
+        return column.sum();
+    }
+
+    @Benchmark
+    public long rawRangeCount() throws IOException {
+        return MappedStreams.longs(rawFile).filter(t -> t >= lo && t <= hi).count();
+    }
+
+    @Benchmark
+    public long columnRangeCount() {
+        return column.countInRange(lo, hi);
+    }
+
+    @Benchmark
+    public long columnRangeStream() {
+        return column.longs(lo, hi).count();
+    }
+
+    @Benchmark
+    public void columnWrite() throws IOException {
+        ColumnWriter.write(columnFile, timestamps());
+    }
+}
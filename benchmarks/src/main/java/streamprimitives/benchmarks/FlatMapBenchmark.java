@@ -0,0 +1,115 @@
+package streamprimitives.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.flat.MultiMaps;
+
+/**
+ * The last example of {@code Main}: {@code list.stream().flatMapToInt(y -> IntStream.of(y))}
+ * (and its double/long twins) against a plain {@code mapToInt}. The flat-map version builds
+ * a stream pipeline per element, which is what the GC profiler makes visible.
+ * The {@link MultiMaps} variants push the values into the downstream consumer instead,
+ * and the {@code rows} benchmarks flatten nested collections into one primitive array.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class FlatMapBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    int size;
+
+    List<Integer> list;
+    List<int[]> rows;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i % 100);
+        }
+        rows = new ArrayList<>(size / 8 + 1);
+        for (int i = 0; i < size; i += 8) {
+            rows.add(IntStream.range(i, Math.min(i + 8, size)).toArray());
+        }
+    }
+
+    @Benchmark
+    public int flatMapToInt() {
+        return list.stream().flatMapToInt(y -> IntStream.of(y)).sum();
+    }
+
+    @Benchmark
+    public int mapToInt() {
+        return list.stream().mapToInt(y -> y).sum();
+    }
+
+    @Benchmark
+    public double flatMapToDouble() {
+        return list.stream().flatMapToDouble(y -> DoubleStream.of(y)).sum();
+    }
+
+    @Benchmark
+    public double mapToDouble() {
+        return list.stream().mapToDouble(y -> y).sum();
+    }
+
+    @Benchmark
+    public long flatMapToLong() {
+        return list.stream().flatMapToLong(y -> LongStream.of(y)).sum();
+    }
+
+    @Benchmark
+    public long mapToLong() {
+        return list.stream().mapToLong(y -> y).sum();
+    }
+
+    @Benchmark
+    public int mapMultiToInt() {
+        return MultiMaps.mapMultiToInt(list.stream(), (y, sink) -> sink.accept(y)).sum();
+    }
+
+    @Benchmark
+    public double mapMultiToDouble() {
+        return MultiMaps.mapMultiToDouble(list.stream(), (y, sink) -> sink.accept(y)).sum();
+    }
+
+    @Benchmark
+    public long mapMultiToLong() {
+        return MultiMaps.mapMultiToLong(list.stream(), (y, sink) -> sink.accept(y)).sum();
+    }
+
+    @Benchmark
+    public int[] rowsFlatMapToInt() {
+        return rows.stream().flatMapToInt(IntStream::of).toArray();
+    }
+
+    @Benchmark
+    public int[] rowsMapMultiToInt() {
+        return MultiMaps.mapMultiToInt(rows, (row, sink) -> {
+            for (int value : row) {
+                sink.accept(value);
+            }
+        }).toArray();
+    }
+}
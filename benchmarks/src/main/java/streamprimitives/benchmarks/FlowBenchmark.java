@@ -0,0 +1,93 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.flow.PrimitiveFlowExecutor;
+
+/**
+ * Cost of publishing a {@code Main}-style pipeline through {@link PrimitiveFlowExecutor}
+ * compared to running it on the caller, and many pipelines over a blocking source running
+ * concurrently (one virtual thread each on Java 21+, platform threads otherwise).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlowBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"16", "256", "4096"})
+    int batchSize;
+
+    @Param({"1000"})
+    int pipelines;
+
+    PrimitiveFlowExecutor executor;
+
+    @Setup
+    public void setUp() {
+        executor = new PrimitiveFlowExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public long callerThreadSum() {
+        return IntStream.range(0, size).map(s -> s % 1000).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long publishedSum() {
+        LongAdder sum = new LongAdder();
+        PrimitiveFlowExecutor.consumeInts(
+                executor.publishInts(() -> IntStream.range(0, size).map(s -> s % 1000), batchSize), sum::add).join();
+        return sum.sum();
+    }
+
+    /**
+     * {@code pipelines} subscriptions whose source sleeps 1 ms before each of 4 elements.
+     */
+    @Benchmark
+    public long concurrentBlockingPipelines() {
+        LongAdder sum = new LongAdder();
+        CompletableFuture<?>[] done = new CompletableFuture<?>[pipelines];
+        for (int i = 0; i < pipelines; i++) {
+            done[i] = PrimitiveFlowExecutor.consumeInts(
+                    executor.publishInts(() -> IntStream.range(0, 4).map(FlowBenchmark::blockingRead), batchSize), sum::add);
+        }
+        CompletableFuture.allOf(done).join();
+        return sum.sum();
+    }
+
+    private static int blockingRead(int value) {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,94 @@
+package streamprimitives.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.fuse.Fused;
+
+/**
+ * The conversion walk of {@code Main} (identity maps, {@code mapToObj(s -> s)},
+ * {@code mapToLong}, {@code mapToDouble}) as an unfused chain and as a {@link Fused} chain.
+ * Setup fails if the two chains do not produce identical elements.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FusionBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    int[] values;
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, size).map(i -> i % 1000).toArray();
+        check(Arrays.equals(unfusedChain(IntStream.of(values)).toArray(), fusedChain(IntStream.of(values)).toArray()),
+                "conversion chain");
+        check(Arrays.equals(unfusedRoundTrip(IntStream.of(values)).toArray(), fusedRoundTrip(IntStream.of(values)).toArray()),
+                "boxing round-trip");
+        check(unfusedChain(IntStream.of(values).parallel()).sum() == fusedChain(IntStream.of(values).parallel()).sum(),
+                "parallel conversion chain");
+    }
+
+    private static void check(boolean equivalent, String what) {
+        if (!equivalent) {
+            throw new IllegalStateException("Fused " + what + " differs from the unfused one");
+        }
+    }
+
+    static DoubleStream unfusedChain(IntStream source) {
+        return source.map(s -> s).mapToLong(s -> s).map(s -> s * 3).mapToDouble(s -> s).map(s -> s / 2);
+    }
+
+    static DoubleStream fusedChain(IntStream source) {
+        return Fused.of(source).map(IntUnaryOperator.identity()).mapToLong(s -> s).map(s -> s * 3)
+                .mapToDouble(s -> s).map(s -> s / 2).stream();
+    }
+
+    static IntStream unfusedRoundTrip(IntStream source) {
+        return source.mapToObj(s -> s).mapToInt(s -> s + 1);
+    }
+
+    static IntStream fusedRoundTrip(IntStream source) {
+        return Fused.of(source).mapToObj(s -> s).mapToInt(s -> s + 1).stream();
+    }
+
+    @Benchmark
+    public double unfusedConversions() {
+        return unfusedChain(IntStream.of(values)).reduce(0.0d, Double::sum);
+    }
+
+    @Benchmark
+    public double fusedConversions() {
+        return fusedChain(IntStream.of(values)).reduce(0.0d, Double::sum);
+    }
+
+    @Benchmark
+    public int unfusedBoxingRoundTrip() {
+        return unfusedRoundTrip(IntStream.of(values)).sum();
+    }
+
+    @Benchmark
+    public int fusedBoxingRoundTrip() {
+        return fusedRoundTrip(IntStream.of(values)).sum();
+    }
+}
@@ -0,0 +1,90 @@
+package streamprimitives.benchmarks;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.collect.IntLongHashMap;
+import streamprimitives.collect.PrimitiveGroupBy;
+
+/**
+ * Counting words by length, the step that follows {@code mapToInt(s -> s.length())} in
+ * {@code Main}, with {@code groupingBy(..., counting())} and with {@link PrimitiveGroupBy};
+ * then the same over a wide key range, where the map has to hash. Run with {@code -prof gc}
+ * to compare the allocation per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class GroupByBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    String[] words;
+    int[] wideKeys;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] vocabulary = IntStream.range(0, 1000)
+                .mapToObj(i -> "w".repeat(1 + random.nextInt(15)))
+                .toArray(String[]::new);
+        words = IntStream.range(0, size).mapToObj(i -> vocabulary[random.nextInt(vocabulary.length)])
+                .toArray(String[]::new);
+        wideKeys = IntStream.range(0, size).map(i -> random.nextInt(Math.max(1, size / 10))).toArray();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> boxedLengths() {
+        return Arrays.stream(words).collect(Collectors.groupingBy(String::length, Collectors.counting()));
+    }
+
+    @Benchmark
+    public IntLongHashMap countByLength() {
+        return PrimitiveGroupBy.countBy(Arrays.stream(words), String::length);
+    }
+
+    @Benchmark
+    public long[] lengthHistogram() {
+        return PrimitiveGroupBy.histogram(Arrays.stream(words).mapToInt(String::length), 16);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> boxedWideKeys() {
+        return IntStream.of(wideKeys).boxed().collect(Collectors.groupingBy(k -> k, Collectors.counting()));
+    }
+
+    @Benchmark
+    public IntLongHashMap countByWideKeys() {
+        return PrimitiveGroupBy.countBy(IntStream.of(wideKeys));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> boxedWideKeysParallel() {
+        return IntStream.of(wideKeys).parallel().boxed().collect(Collectors.groupingBy(k -> k, Collectors.counting()));
+    }
+
+    @Benchmark
+    public IntLongHashMap countByWideKeysParallel() {
+        return PrimitiveGroupBy.countBy(IntStream.of(wideKeys).parallel());
+    }
+}
@@ -0,0 +1,59 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.metrics.PipelineMetrics;
+
+/**
+ * Overhead of {@link PipelineMetrics} on the {@code map}/{@code mapToDouble} chain of
+ * {@code Main}: the plain pipeline, the instrumented one with metrics disabled (which should
+ * match the plain one) and the instrumented one in a fork with metrics enabled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    final PipelineMetrics metrics = PipelineMetrics.of("benchmark");
+
+    @Benchmark
+    public double plain() {
+        return IntStream.range(0, size).map(s -> s % 1000).mapToDouble(s -> s * 0.5).sum();
+    }
+
+    @Benchmark
+    public double instrumentedDisabled() {
+        return instrumented();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dstreamprimitives.metrics=true")
+    public double instrumentedEnabled() {
+        return instrumented();
+    }
+
+    private double instrumented() {
+        return metrics.terminalAsDouble("sum", () -> IntStream.range(0, size)
+                .map(metrics.intMap("mod", s -> s % 1000))
+                .mapToDouble(metrics.intToDouble("half", s -> s * 0.5))
+                .sum());
+    }
+}
@@ -0,0 +1,92 @@
+package streamprimitives.benchmarks;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.io.PrimitiveBinarySink;
+import streamprimitives.io.PrimitiveTextSink;
+
+/**
+ * {@code forEach(System.out::println)} from {@code Main} against the buffered text and binary
+ * sinks, all writing to {@code /dev/null} so that only the formatting and write path is
+ * measured. The {@code PrintStream} is set up like {@code System.out}: autoflush on, so
+ * every {@code println} reaches the file descriptor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OutputSinkBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    PrintStream printStream;
+    PrimitiveTextSink textSink;
+    PrimitiveBinarySink binarySink;
+    double[] doubles;
+
+    @Setup
+    public void setUp() throws IOException {
+        printStream = new PrintStream(new FileOutputStream("/dev/null"), true);
+        textSink = new PrimitiveTextSink(new FileOutputStream("/dev/null").getChannel());
+        binarySink = new PrimitiveBinarySink(new FileOutputStream("/dev/null").getChannel());
+        doubles = IntStream.range(0, size).mapToDouble(i -> i * 1.1).toArray();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        printStream.close();
+        textSink.close();
+        binarySink.close();
+    }
+
+    @Benchmark
+    public void printlnInts() {
+        IntStream.range(0, size).forEach(printStream::println);
+    }
+
+    @Benchmark
+    public void textSinkInts() throws IOException {
+        textSink.writeAll(IntStream.range(0, size));
+    }
+
+    @Benchmark
+    public void binarySinkInts() throws IOException {
+        binarySink.writeAll(IntStream.range(0, size));
+    }
+
+    @Benchmark
+    public void printlnDoubles() {
+        DoubleStream.of(doubles).forEach(printStream::println);
+    }
+
+    @Benchmark
+    public void textSinkDoubles() throws IOException {
+        textSink.writeAll(DoubleStream.of(doubles));
+    }
+
+    @Benchmark
+    public void binarySinkDoubles() throws IOException {
+        binarySink.writeAll(DoubleStream.of(doubles));
+    }
+}
@@ -0,0 +1,71 @@
+package streamprimitives.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.collect.IntList;
+
+/**
+ * Collect-then-stream: the {@code List<Integer> list = new ArrayList<>(); list.add(1);}
+ * pattern of {@code Main} against {@link IntList}. Values start above the {@code Integer}
+ * cache so that boxing really allocates, as it does for real data.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Benchmark
+    public long arrayListMapToInt() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(1000 + i);
+        }
+        return list.stream().mapToInt(y -> y).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long intListStream() {
+        IntList list = new IntList();
+        for (int i = 0; i < size; i++) {
+            list.add(1000 + i);
+        }
+        return list.stream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long arrayListParallel() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(1000 + i);
+        }
+        return list.parallelStream().mapToLong(y -> y).sum();
+    }
+
+    @Benchmark
+    public long intListParallel() {
+        IntList list = new IntList();
+        for (int i = 0; i < size; i++) {
+            list.add(1000 + i);
+        }
+        return list.parallelStream().asLongStream().sum();
+    }
+}
@@ -0,0 +1,97 @@
+package streamprimitives.benchmarks;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.source.RandomStreams;
+
+/**
+ * {@code new Random().ints()} and {@code DoubleStream.generate(Math::random)} from {@code Main}
+ * against {@code SplittableRandom} and the counter-based {@link RandomStreams}, sequential and
+ * parallel. Run with {@code -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}
+ * to see how each source scales with core count.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomBenchmark {
+
+    @Param({"1000", "1000000", "100000000"})
+    int size;
+
+    Random random;
+    RandomStreams randomStreams;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        randomStreams = new RandomStreams(42);
+    }
+
+    @Benchmark
+    public int randomInts() {
+        return random.ints(size).sum();
+    }
+
+    @Benchmark
+    public int randomIntsParallel() {
+        return random.ints(size).parallel().sum();
+    }
+
+    @Benchmark
+    public int splittableRandomIntsParallel() {
+        return new SplittableRandom(42).ints(size).parallel().sum();
+    }
+
+    @Benchmark
+    public int randomStreamsInts() {
+        return randomStreams.ints(size).sum();
+    }
+
+    @Benchmark
+    public int randomStreamsIntsParallel() {
+        return randomStreams.ints(size).parallel().sum();
+    }
+
+    @Benchmark
+    public int randomStreamsBoundedIntsParallel() {
+        return randomStreams.ints(size, 0, 1000).parallel().sum();
+    }
+
+    @Benchmark
+    public double mathRandomGenerate() {
+        return DoubleStream.generate(Math::random).limit(size).sum();
+    }
+
+    @Benchmark
+    public double mathRandomGenerateParallel() {
+        return DoubleStream.generate(Math::random).limit(size).parallel().sum();
+    }
+
+    @Benchmark
+    public double randomStreamsDoubles() {
+        return randomStreams.doubles(size).sum();
+    }
+
+    @Benchmark
+    public double randomStreamsDoublesParallel() {
+        return randomStreams.doubles(size).parallel().sum();
+    }
+}
@@ -0,0 +1,63 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counting sources from {@code Main}: {@code IntStream.iterate(1, n -> n + 1).limit(n)}
+ * against {@code range}/{@code rangeClosed}, plus the {@code DoubleStream.iterate(.5, d -> d / 2)}
+ * fractions. The parallel variants show how each source splits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    int size;
+
+    @Benchmark
+    public int iterateLimit() {
+        return IntStream.iterate(1, n -> n + 1).limit(size).sum();
+    }
+
+    @Benchmark
+    public int range() {
+        return IntStream.range(1, size + 1).sum();
+    }
+
+    @Benchmark
+    public int rangeClosed() {
+        return IntStream.rangeClosed(1, size).sum();
+    }
+
+    @Benchmark
+    public int parallelIterateLimit() {
+        return IntStream.iterate(1, n -> n + 1).limit(size).parallel().sum();
+    }
+
+    @Benchmark
+    public int parallelRangeClosed() {
+        return IntStream.rangeClosed(1, size).parallel().sum();
+    }
+
+    @Benchmark
+    public double fractionsIterateLimit() {
+        return DoubleStream.iterate(.5, d -> d / 2).limit(size).sum();
+    }
+}
@@ -0,0 +1,75 @@
+package streamprimitives.benchmarks;
+
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.reduce.IntSummary;
+import streamprimitives.reduce.PrimitiveReducers;
+
+/**
+ * Many small aggregates: {@code IntStream.average()} / {@code summaryStatistics()} against
+ * {@link PrimitiveReducers} writing into a reused {@link IntSummary}. Watch
+ * {@code gc.alloc.rate.norm}, which should be zero for the reducer variants.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReducersBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    int[] values;
+    final IntSummary summary = new IntSummary();
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, size).map(i -> i % 100).toArray();
+    }
+
+    @Benchmark
+    public double streamAverage() {
+        return IntStream.of(values).average().getAsDouble();
+    }
+
+    @Benchmark
+    public double reducerAverage() {
+        return PrimitiveReducers.average(values);
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return IntStream.of(values).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long reducerSum() {
+        return PrimitiveReducers.sum(values);
+    }
+
+    @Benchmark
+    public IntSummaryStatistics streamSummaryStatistics() {
+        return IntStream.of(values).summaryStatistics();
+    }
+
+    @Benchmark
+    public IntSummary reducerSummarize() {
+        return PrimitiveReducers.summarize(values, summary);
+    }
+}
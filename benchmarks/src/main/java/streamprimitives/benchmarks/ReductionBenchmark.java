@@ -0,0 +1,105 @@
+package streamprimitives.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boxed {@code Stream<Integer>.reduce} against the primitive {@code IntStream} reductions,
+ * i.e. the first three examples of {@code Main}:
+ * <pre>
+ * stream.reduce(0, (a, b) -&gt; a + b)
+ * stream2.mapToInt(x -&gt; x).sum()
+ * intStream.average()
+ * </pre>
+ * The boxed source holds values from the {@code Integer} cache (0..99), so only the
+ * accumulator boxing shows up in the allocation rate, not the source itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ReductionBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    int size;
+
+    Integer[] boxed;
+    int[] primitives;
+
+    @Setup
+    public void setUp() {
+        primitives = new int[size];
+        boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            primitives[i] = i % 100;
+            boxed[i] = primitives[i];
+        }
+    }
+
+    @Benchmark
+    public int boxedReduce() {
+        return Stream.of(boxed).reduce(0, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    public int boxedMapToIntSum() {
+        return Stream.of(boxed).mapToInt(x -> x).sum();
+    }
+
+    @Benchmark
+    public int primitiveSum() {
+        return IntStream.of(primitives).sum();
+    }
+
+    @Benchmark
+    public double boxedAverage() {
+        return Stream.of(boxed).collect(Collectors.averagingInt(x -> x));
+    }
+
+    @Benchmark
+    public double boxedMapToIntAverage() {
+        return Stream.of(boxed).mapToInt(x -> x).average().orElse(Double.NaN);
+    }
+
+    @Benchmark
+    public double primitiveAverage() {
+        return IntStream.of(primitives).average().orElse(Double.NaN);
+    }
+
+    @Benchmark
+    public int loopSum() {
+        // baseline: what a hand-written accumulator costs
+        int sum = 0;
+        for (int value : primitives) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int parallelPrimitiveSum() {
+        return Arrays.stream(primitives).parallel().sum();
+    }
+
+    @Benchmark
+    public int parallelBoxedReduce() {
+        return Arrays.stream(boxed).parallel().reduce(0, (a, b) -> a + b);
+    }
+}
@@ -0,0 +1,76 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.cache.ReplayCache;
+import streamprimitives.cache.ReplayableIntStream;
+
+/**
+ * {@code Main} consumes {@code intS} several times. This compares rebuilding an expensive
+ * source for each of three terminal operations with a {@link ReplayableIntStream} that is
+ * already cached, and with one that is read once and then replayed twice. {@code arrayStreams}
+ * is the lower bound: the same three operations over a plain {@code int[]}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ReplayBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    ReplayCache cache;
+    ReplayableIntStream cached;
+    int[] array;
+
+    @Setup
+    public void setUp() {
+        cache = new ReplayCache(1L << 30);
+        cached = cache.ints(this::source);
+        cached.stream().count();
+        array = source().toArray();
+    }
+
+    IntStream source() {
+        return IntStream.range(0, size).map(i -> (int) (Math.log1p(i) * Math.sin(i) * 1000));
+    }
+
+    @Benchmark
+    public double recompute() {
+        return source().sum() + source().max().getAsInt() + source().average().getAsDouble();
+    }
+
+    @Benchmark
+    public double arrayStreams() {
+        return IntStream.of(array).sum() + IntStream.of(array).max().getAsInt() + IntStream.of(array).average().getAsDouble();
+    }
+
+    @Benchmark
+    public double replayCached() {
+        return cached.stream().sum() + cached.stream().max().getAsInt() + cached.stream().average().getAsDouble();
+    }
+
+    @Benchmark
+    public double replayFromCold() {
+        ReplayableIntStream intS = cache.ints(this::source);
+        double result = intS.stream().sum() + intS.stream().max().getAsInt() + intS.stream().average().getAsDouble();
+        intS.invalidate();
+        return result;
+    }
+}
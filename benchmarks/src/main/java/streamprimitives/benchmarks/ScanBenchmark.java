@@ -0,0 +1,68 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.scan.PrefixScans;
+
+/**
+ * Running totals, the "running total" of {@code Main}'s comments, over {@code IntStream.range}:
+ * sequential and parallel {@link PrefixScans} streams, and in-place array scans with a plain
+ * loop and with {@code Arrays.parallelPrefix}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ScanBenchmark {
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    int size;
+
+    long[] values;
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, size).asLongStream().toArray();
+    }
+
+    @Benchmark
+    public long sequentialStream() {
+        return PrefixScans.runningTotals(IntStream.range(0, size)).reduce(0L, (a, b) -> a ^ b);
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return PrefixScans.runningTotals(IntStream.range(0, size).parallel()).reduce(0L, (a, b) -> a ^ b);
+    }
+
+    @Benchmark
+    public long sequentialArray() {
+        long[] totals = values.clone();
+        for (int i = 1; i < totals.length; i++) {
+            totals[i] += totals[i - 1];
+        }
+        return totals[totals.length - 1];
+    }
+
+    @Benchmark
+    public long scanInPlace() {
+        long[] totals = values.clone();
+        PrefixScans.scanInPlace(totals, Long::sum);
+        return totals[totals.length - 1];
+    }
+}
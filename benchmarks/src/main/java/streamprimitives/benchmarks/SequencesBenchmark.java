@@ -0,0 +1,63 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.source.Sequences;
+
+/**
+ * Parallel pipelines over {@code iterate().limit()} against the closed-form
+ * {@link Sequences} sources. The mapping step gives each element some work so that
+ * splitting, not the source, decides the result.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SequencesBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Benchmark
+    public long iterateLimitParallel() {
+        return IntStream.iterate(1, n -> n + 1).limit(size).parallel()
+                .mapToLong(n -> (long) n * n % 1_000_003).sum();
+    }
+
+    @Benchmark
+    public long arithmeticParallel() {
+        return Sequences.arithmetic(1, 1, size).parallel()
+                .mapToLong(n -> (long) n * n % 1_000_003).sum();
+    }
+
+    @Benchmark
+    public long arithmeticSequential() {
+        return Sequences.arithmetic(1, 1, size)
+                .mapToLong(n -> (long) n * n % 1_000_003).sum();
+    }
+
+    @Benchmark
+    public double fractionsIterateLimitParallel() {
+        return DoubleStream.iterate(.5, d -> d / 2).limit(size).parallel().map(Math::sqrt).sum();
+    }
+
+    @Benchmark
+    public double geometricParallel() {
+        return Sequences.geometric(.5, .5, size).parallel().map(Math::sqrt).sum();
+    }
+}
@@ -0,0 +1,105 @@
+package streamprimitives.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.startup.FastStartMain;
+
+/**
+ * Time from launching a JVM to the first line it prints, for {@code Main} and
+ * {@link FastStartMain}, each with and without a dynamic class-data-sharing archive recorded
+ * from a training run during setup (what {@code scripts/train-cds.sh} does). The child JVMs
+ * run from this benchmark's own jar, which includes {@code Main}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Param({"Main", "streamprimitives.startup.FastStartMain"})
+    String mainClass;
+
+    @Param({"false", "true"})
+    boolean cds;
+
+    String java;
+    String classPath;
+    Path archive;
+    Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        classPath = System.getProperty("java.class.path");
+        if (cds) {
+            archive = Files.createTempFile("startup-benchmark", ".jsa");
+            Files.delete(archive);
+            Process training = command("-XX:ArchiveClassesAtExit=" + archive)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            training.waitFor();
+            if (!Files.exists(archive)) {
+                throw new IllegalStateException("Training run wrote no archive");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (archive != null) {
+            Files.deleteIfExists(archive);
+        }
+    }
+
+    /**
+     * Lets the child finish outside the measured time.
+     */
+    @TearDown(Level.Invocation)
+    public void awaitExit() throws IOException, InterruptedException {
+        process.getInputStream().transferTo(OutputStream.nullOutputStream());
+        process.waitFor();
+    }
+
+    private ProcessBuilder command(String... jvmOptions) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-Xshare:auto");
+        command.addAll(List.of(jvmOptions));
+        command.add("-cp");
+        command.add(classPath);
+        command.add(mainClass);
+        return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD);
+    }
+
+    @Benchmark
+    public String firstResult() throws IOException {
+        process = cds ? command("-XX:SharedArchiveFile=" + archive).start() : command().start();
+        BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        return out.readLine();
+    }
+}
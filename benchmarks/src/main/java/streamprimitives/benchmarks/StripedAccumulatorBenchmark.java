@@ -0,0 +1,131 @@
+package streamprimitives.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.concurrent.StripedHistogram;
+import streamprimitives.concurrent.StripedLongStats;
+import streamprimitives.reduce.LongSummary;
+
+/**
+ * A parallel {@code forEach} feeding shared statistics, on a pool of 1 to N threads, N being
+ * {@code availableProcessors()}: a {@code synchronized} {@link LongSummary}, four
+ * {@code AtomicLong}s, the JDK's {@code LongAdder} and {@code LongAccumulator}s, and
+ * {@link StripedLongStats}. Only the striped variants should keep scaling as threads are
+ * added. {@code threads} is {@code 1}, {@code N/2} or {@code N} by default; other pool sizes
+ * can be given as numbers, e.g. {@code -p threads=1,3,6,12}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StripedAccumulatorBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"1", "N/2", "N"})
+    String threads;
+
+    ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(poolSize(threads));
+    }
+
+    static int poolSize(String threads) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        switch (threads) {
+            case "N":
+                return processors;
+            case "N/2":
+                return Math.max(1, processors / 2);
+            default:
+                return Integer.parseInt(threads);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    LongStream values() {
+        return LongStream.range(0, size).parallel().map(i -> i * 31 % 1000);
+    }
+
+    @Benchmark
+    public long synchronizedSummary() {
+        LongSummary summary = new LongSummary();
+        pool.submit(() -> values().forEach(value -> {
+            synchronized (summary) {
+                summary.accept(value);
+            }
+        })).join();
+        return summary.getSum() + summary.getMax();
+    }
+
+    @Benchmark
+    public long atomics() {
+        AtomicLong count = new AtomicLong();
+        AtomicLong sum = new AtomicLong();
+        AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+        pool.submit(() -> values().forEach(value -> {
+            count.incrementAndGet();
+            sum.addAndGet(value);
+            min.accumulateAndGet(value, Math::min);
+            max.accumulateAndGet(value, Math::max);
+        })).join();
+        return sum.get() + max.get();
+    }
+
+    @Benchmark
+    public long adders() {
+        LongAdder count = new LongAdder();
+        LongAdder sum = new LongAdder();
+        LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        pool.submit(() -> values().forEach(value -> {
+            count.increment();
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        })).join();
+        return sum.sum() + max.get();
+    }
+
+    @Benchmark
+    public long stripedStats() {
+        StripedLongStats stats = new StripedLongStats();
+        pool.submit(() -> stats.acceptAll(values())).join();
+        return stats.getSum() + stats.getMax();
+    }
+
+    @Benchmark
+    public long stripedHistogram() {
+        StripedHistogram histogram = new StripedHistogram(0, 1000, 100);
+        pool.submit(() -> histogram.acceptAll(values())).join();
+        return histogram.getCount(50);
+    }
+}
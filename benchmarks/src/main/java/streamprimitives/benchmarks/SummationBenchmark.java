@@ -0,0 +1,66 @@
+package streamprimitives.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import streamprimitives.reduce.DoubleSums;
+import streamprimitives.reduce.SummationMode;
+
+/**
+ * {@code DoubleStream.sum()} against every {@link SummationMode}, over an array and through a
+ * stream. The values span twenty orders of magnitude with mixed signs, so the modes also
+ * differ in accuracy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummationBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"NAIVE", "KAHAN", "NEUMAIER", "PAIRWISE", "EXACT"})
+    SummationMode mode;
+
+    double[] values;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 10);
+        }
+    }
+
+    @Benchmark
+    public double jdkStreamSum() {
+        return DoubleStream.of(values).sum();
+    }
+
+    @Benchmark
+    public double arraySum() {
+        return DoubleSums.sum(values, mode);
+    }
+
+    @Benchmark
+    public double streamSum() {
+        return DoubleSums.sum(DoubleStream.of(values), mode);
+    }
+}
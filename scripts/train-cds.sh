@@ -0,0 +1,31 @@
+#!/bin/sh
+# Records a dynamic class-data-sharing archive for each given main class (default: Main and
+# streamprimitives.startup.FastStartMain) from one training run, into target/<class>.jsa.
+# The archive holds the classes that run loaded, including the stream implementation and the
+# generated lambda classes, already parsed and verified, so later runs start faster:
+#
+#   java -XX:SharedArchiveFile=target/FastStartMain.jsa \
+#        -cp target/streamprimitives-1.0-SNAPSHOT.jar streamprimitives.startup.FastStartMain
+#
+# Archives only work with the same JDK and the same class path, which must be a jar.
+set -e
+cd "$(dirname "$0")/.."
+
+JAR=target/streamprimitives-1.0-SNAPSHOT.jar
+if [ ! -f "$JAR" ]; then
+    mvn -B -q package -DskipTests
+fi
+if [ $# -eq 0 ]; then
+    set -- Main streamprimitives.startup.FastStartMain
+fi
+
+for main in "$@"; do
+    archive="target/${main##*.}.jsa"
+    # Main ends by reusing a consumed stream; the archive is still written at exit
+    java -XX:ArchiveClassesAtExit="$archive" -cp "$JAR" "$main" > /dev/null 2>&1 || true
+    if [ ! -f "$archive" ]; then
+        echo "No archive written for $main" >&2
+        exit 1
+    fi
+    echo "java -XX:SharedArchiveFile=$archive -cp $JAR $main"
+done
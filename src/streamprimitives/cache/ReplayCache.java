@@ -0,0 +1,172 @@
+package streamprimitives.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Memory budget shared by replayable streams: holds their materialized elements and evicts the
+ * least recently replayed ones once the budget is exceeded.
+ * <p>
+ * An evicted stream is not lost. Its next terminal operation reads the source again and puts
+ * the elements back in the cache. A source larger than the whole budget is materialized for
+ * each terminal operation but never retained. Only element payloads count towards the budget
+ * (4 or 8 bytes per element), not object headers. Thread-safe.
+ */
+public final class ReplayCache {
+
+    private static final class Holder {
+        static final ReplayCache DEFAULT = new ReplayCache(
+                Long.getLong("streamprimitives.replay.maxBytes", Runtime.getRuntime().maxMemory() / 8));
+    }
+
+    private static final class Entry {
+        final Object elements;
+        final long bytes;
+
+        Entry(Object elements, long bytes) {
+            this.elements = elements;
+            this.bytes = bytes;
+        }
+    }
+
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    // access order: iteration starts at the least recently used entry
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private long evictions;
+
+    public ReplayCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Negative budget: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * The cache behind {@code ReplayableXStream.of}: one eighth of the maximum heap, or
+     * {@code -Dstreamprimitives.replay.maxBytes}.
+     */
+    public static ReplayCache defaultCache() {
+        return Holder.DEFAULT;
+    }
+
+    public ReplayableIntStream ints(Supplier<? extends IntStream> source) {
+        return new ReplayableIntStream(this, source);
+    }
+
+    public ReplayableLongStream longs(Supplier<? extends LongStream> source) {
+        return new ReplayableLongStream(this, source);
+    }
+
+    public ReplayableDoubleStream doubles(Supplier<? extends DoubleStream> source) {
+        return new ReplayableDoubleStream(this, source);
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of streams whose elements are currently cached.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long evictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            usedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Object get(Object key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            return entry != null ? entry.elements : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether {@code key} is cached, without counting as a use for eviction order.
+     */
+    boolean contains(Object key) {
+        lock.lock();
+        try {
+            return entries.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(Object key, Object elements, long bytes) {
+        if (bytes > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry previous = entries.put(key, new Entry(elements, bytes));
+            if (previous != null) {
+                usedBytes -= previous.bytes;
+            }
+            usedBytes += bytes;
+            Iterator<Map.Entry<Object, Entry>> eldest = entries.entrySet().iterator();
+            while (usedBytes > maxBytes) {
+                Map.Entry<Object, Entry> victim = eldest.next();
+                usedBytes -= victim.getValue().bytes;
+                eldest.remove();
+                evictions++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Object key) {
+        lock.lock();
+        try {
+            Entry removed = entries.remove(key);
+            if (removed != null) {
+                usedBytes -= removed.bytes;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
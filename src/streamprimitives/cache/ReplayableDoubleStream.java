@@ -0,0 +1,78 @@
+package streamprimitives.cache;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import streamprimitives.collect.DoubleList;
+
+/**
+ * Double counterpart of {@link ReplayableIntStream}.
+ */
+public final class ReplayableDoubleStream {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private final ReplayCache cache;
+    private final Supplier<? extends DoubleStream> source;
+    private final ReentrantLock materializing = new ReentrantLock();
+
+    ReplayableDoubleStream(ReplayCache cache, Supplier<? extends DoubleStream> source) {
+        this.cache = cache;
+        this.source = Objects.requireNonNull(source);
+    }
+
+    /**
+     * A replayable stream in the {@linkplain ReplayCache#defaultCache() default cache}.
+     */
+    public static ReplayableDoubleStream of(Supplier<? extends DoubleStream> source) {
+        return ReplayCache.defaultCache().doubles(source);
+    }
+
+    /**
+     * A new sequential stream over the elements. Nothing is read until its terminal operation.
+     */
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(() -> elements().spliterator(), CHARACTERISTICS, false);
+    }
+
+    public DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(() -> elements().spliterator(), CHARACTERISTICS, true);
+    }
+
+    public boolean isCached() {
+        return cache.contains(this);
+    }
+
+    /**
+     * Drops the cached elements, so the next terminal operation reads the source again.
+     */
+    public void invalidate() {
+        cache.remove(this);
+    }
+
+    private DoubleList elements() {
+        DoubleList elements = (DoubleList) cache.get(this);
+        if (elements != null) {
+            return elements;
+        }
+        materializing.lock();
+        try {
+            elements = (DoubleList) cache.get(this);
+            if (elements == null) {
+                elements = new DoubleList();
+                try (DoubleStream stream = source.get()) {
+                    elements.addAll(stream);
+                }
+                elements.trimToSize();
+                cache.put(this, elements, (long) elements.size() * Double.BYTES);
+            }
+            return elements;
+        } finally {
+            materializing.unlock();
+        }
+    }
+}
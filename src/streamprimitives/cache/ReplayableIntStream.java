@@ -0,0 +1,91 @@
+package streamprimitives.cache;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import streamprimitives.collect.IntList;
+
+/**
+ * An {@code IntStream} that can be consumed any number of times.
+ * <p>
+ * {@code Main} reuses {@code intS} after a terminal operation, which throws
+ * {@code IllegalStateException: stream has already been operated upon or closed}; the usual fix
+ * recomputes the source for every use. Here the source is read once, by the first terminal
+ * operation of any {@link #stream()}, into a trimmed {@code int[]} held by a
+ * {@link ReplayCache}. Later streams are served from that array:
+ * <pre>
+ * ReplayableIntStream intS = ReplayableIntStream.of(() -&gt; expensiveSource());
+ * int sum = intS.stream().sum();
+ * OptionalDouble avg = intS.stream().average();   // no second read of the source
+ * </pre>
+ * The source must be finite. If the cache has evicted the elements, the next terminal
+ * operation reads the source again. Concurrent first uses read it only once.
+ */
+public final class ReplayableIntStream {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private final ReplayCache cache;
+    private final Supplier<? extends IntStream> source;
+    private final ReentrantLock materializing = new ReentrantLock();
+
+    ReplayableIntStream(ReplayCache cache, Supplier<? extends IntStream> source) {
+        this.cache = cache;
+        this.source = Objects.requireNonNull(source);
+    }
+
+    /**
+     * A replayable stream in the {@linkplain ReplayCache#defaultCache() default cache}.
+     */
+    public static ReplayableIntStream of(Supplier<? extends IntStream> source) {
+        return ReplayCache.defaultCache().ints(source);
+    }
+
+    /**
+     * A new sequential stream over the elements. Nothing is read until its terminal operation.
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(() -> elements().spliterator(), CHARACTERISTICS, false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(() -> elements().spliterator(), CHARACTERISTICS, true);
+    }
+
+    public boolean isCached() {
+        return cache.contains(this);
+    }
+
+    /**
+     * Drops the cached elements, so the next terminal operation reads the source again.
+     */
+    public void invalidate() {
+        cache.remove(this);
+    }
+
+    private IntList elements() {
+        IntList elements = (IntList) cache.get(this);
+        if (elements != null) {
+            return elements;
+        }
+        materializing.lock();
+        try {
+            elements = (IntList) cache.get(this);
+            if (elements == null) {
+                elements = new IntList();
+                try (IntStream stream = source.get()) {
+                    elements.addAll(stream);
+                }
+                elements.trimToSize();
+                cache.put(this, elements, (long) elements.size() * Integer.BYTES);
+            }
+            return elements;
+        } finally {
+            materializing.unlock();
+        }
+    }
+}
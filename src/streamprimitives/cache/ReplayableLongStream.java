@@ -0,0 +1,78 @@
+package streamprimitives.cache;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import streamprimitives.collect.LongList;
+
+/**
+ * Long counterpart of {@link ReplayableIntStream}.
+ */
+public final class ReplayableLongStream {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private final ReplayCache cache;
+    private final Supplier<? extends LongStream> source;
+    private final ReentrantLock materializing = new ReentrantLock();
+
+    ReplayableLongStream(ReplayCache cache, Supplier<? extends LongStream> source) {
+        this.cache = cache;
+        this.source = Objects.requireNonNull(source);
+    }
+
+    /**
+     * A replayable stream in the {@linkplain ReplayCache#defaultCache() default cache}.
+     */
+    public static ReplayableLongStream of(Supplier<? extends LongStream> source) {
+        return ReplayCache.defaultCache().longs(source);
+    }
+
+    /**
+     * A new sequential stream over the elements. Nothing is read until its terminal operation.
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(() -> elements().spliterator(), CHARACTERISTICS, false);
+    }
+
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(() -> elements().spliterator(), CHARACTERISTICS, true);
+    }
+
+    public boolean isCached() {
+        return cache.contains(this);
+    }
+
+    /**
+     * Drops the cached elements, so the next terminal operation reads the source again.
+     */
+    public void invalidate() {
+        cache.remove(this);
+    }
+
+    private LongList elements() {
+        LongList elements = (LongList) cache.get(this);
+        if (elements != null) {
+            return elements;
+        }
+        materializing.lock();
+        try {
+            elements = (LongList) cache.get(this);
+            if (elements == null) {
+                elements = new LongList();
+                try (LongStream stream = source.get()) {
+                    elements.addAll(stream);
+                }
+                elements.trimToSize();
+                cache.put(this, elements, (long) elements.size() * Long.BYTES);
+            }
+            return elements;
+        } finally {
+            materializing.unlock();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package streamprimitives.chunk;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import streamprimitives.collect.DoubleList;
+
+/**
+ * Double counterpart of {@link ChunkedIntPipeline}, for chains like {@code doubleS.map(s -> s)}:
+ * <pre>
+ * double sum = ChunkedDoublePipeline.of(values).map(d -&gt; d / 2).sum();
+ * </pre>
+ * Pipelines are immutable; each {@code map}/{@code filter}/{@code apply} returns a new one.
+ * Pipelines over arrays can be run any number of times. Pipelines over a stream or spliterator
+ * consume it, so they support a single terminal operation, like streams do.
+ * Evaluation is sequential.
+ */
+public final class ChunkedDoublePipeline {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final DoubleChunkOperator[] NO_STAGES = {};
+
+    private final double[] array;
+    private final int from;
+    private final int to;
+    private final Spliterator.OfDouble spliterator;
+    private final DoubleChunkOperator[] stages;
+    private final int chunkSize;
+
+    private ChunkedDoublePipeline(double[] array, int from, int to, Spliterator.OfDouble spliterator,
+                                  DoubleChunkOperator[] stages, int chunkSize) {
+        this.array = array;
+        this.from = from;
+        this.to = to;
+        this.spliterator = spliterator;
+        this.stages = stages;
+        this.chunkSize = chunkSize;
+    }
+
+    public static ChunkedDoublePipeline of(double[] values) {
+        return of(values, 0, values.length);
+    }
+
+    public static ChunkedDoublePipeline of(double[] values, int from, int to) {
+        if (from < 0 || from > to || to > values.length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + values.length);
+        }
+        return new ChunkedDoublePipeline(values, from, to, null, NO_STAGES, DEFAULT_CHUNK_SIZE);
+    }
+
+    public static ChunkedDoublePipeline of(DoubleStream stream) {
+        return of(stream.spliterator());
+    }
+
+    public static ChunkedDoublePipeline of(Spliterator.OfDouble spliterator) {
+        return new ChunkedDoublePipeline(null, 0, 0, spliterator, NO_STAGES, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Returns a pipeline that uses chunks of {@code chunkSize} elements.
+     */
+    public ChunkedDoublePipeline chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        return new ChunkedDoublePipeline(array, from, to, spliterator, stages, chunkSize);
+    }
+
+    public ChunkedDoublePipeline map(DoubleUnaryOperator mapper) {
+        return apply((chunk, length) -> {
+            for (int i = 0; i < length; i++) {
+                chunk[i] = mapper.applyAsDouble(chunk[i]);
+            }
+            return length;
+        });
+    }
+
+    public ChunkedDoublePipeline filter(DoublePredicate predicate) {
+        return apply((chunk, length) -> {
+            int kept = 0;
+            for (int i = 0; i < length; i++) {
+                double value = chunk[i];
+                if (predicate.test(value)) {
+                    chunk[kept++] = value;
+                }
+            }
+            return kept;
+        });
+    }
+
+    /**
+     * Adds a custom chunk-level stage.
+     */
+    public ChunkedDoublePipeline apply(DoubleChunkOperator operator) {
+        DoubleChunkOperator[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = operator;
+        return new ChunkedDoublePipeline(array, from, to, spliterator, next, chunkSize);
+    }
+
+    // terminal operations
+
+    /**
+     * Returns the plain, uncompensated sum of the elements, accumulated chunk by chunk.
+     */
+    public double sum() {
+        double[] sum = new double[1];
+        run((chunk, length) -> {
+            double s = 0.0d;
+            for (int i = 0; i < length; i++) {
+                s += chunk[i];
+            }
+            sum[0] += s;
+            return length;
+        });
+        return sum[0];
+    }
+
+    public double reduce(double identity, DoubleBinaryOperator op) {
+        double[] result = {identity};
+        run((chunk, length) -> {
+            double r = result[0];
+            for (int i = 0; i < length; i++) {
+                r = op.applyAsDouble(r, chunk[i]);
+            }
+            result[0] = r;
+            return length;
+        });
+        return result[0];
+    }
+
+    public long count() {
+        long[] count = new long[1];
+        run((chunk, length) -> {
+            count[0] += length;
+            return length;
+        });
+        return count[0];
+    }
+
+    public double[] toArray() {
+        DoubleList result = new DoubleList(spliterator == null ? to - from : 0);
+        run((chunk, length) -> {
+            result.addAll(chunk, 0, length);
+            return length;
+        });
+        return result.toArray();
+    }
+
+    public void forEach(DoubleConsumer action) {
+        run((chunk, length) -> {
+            for (int i = 0; i < length; i++) {
+                action.accept(chunk[i]);
+            }
+            return length;
+        });
+    }
+
+    /**
+     * Hands every processed chunk to {@code terminal}, which may read {@code chunk[0, length)}
+     * but must not keep a reference to the array.
+     */
+    public void forEachChunk(DoubleChunkOperator terminal) {
+        run(terminal);
+    }
+
+    private void run(DoubleChunkOperator terminal) {
+        if (spliterator == null) {
+            double[] chunk = new double[Math.min(chunkSize, Math.max(1, to - from))];
+            for (int offset = from; offset < to; offset += chunk.length) {
+                int length = Math.min(chunk.length, to - offset);
+                System.arraycopy(array, offset, chunk, 0, length);
+                process(chunk, length, terminal);
+            }
+        } else {
+            Filler filler = new Filler(chunkSize, terminal);
+            spliterator.forEachRemaining(filler);
+            filler.flush();
+        }
+    }
+
+    private void process(double[] chunk, int length, DoubleChunkOperator terminal) {
+        for (DoubleChunkOperator stage : stages) {
+            if (length == 0) {
+                return;
+            }
+            length = stage.apply(chunk, length);
+        }
+        if (length > 0) {
+            terminal.apply(chunk, length);
+        }
+    }
+
+    /**
+     * Collects pushed elements into a chunk and processes it each time it fills up.
+     */
+    private final class Filler implements DoubleConsumer {
+
+        private final double[] chunk;
+        private final DoubleChunkOperator terminal;
+        private int length;
+
+        Filler(int chunkSize, DoubleChunkOperator terminal) {
+            this.chunk = new double[chunkSize];
+            this.terminal = terminal;
+        }
+
+        @Override
+        public void accept(double value) {
+            chunk[length++] = value;
+            if (length == chunk.length) {
+                flush();
+            }
+        }
+
+        void flush() {
+            int n = length;
+            length = 0;
+            if (n > 0) {
+                process(chunk, n, terminal);
+            }
+        }
+    }
+}
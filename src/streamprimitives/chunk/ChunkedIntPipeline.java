@@ -0,0 +1,236 @@
+package streamprimitives.chunk;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import streamprimitives.collect.IntList;
+
+/**
+ * Int pipeline that moves data through its stages a chunk at a time instead of one element
+ * at a time.
+ * <p>
+ * An {@code IntStream} chain such as {@code mapToInt(x -> x).sum()} or {@code intS.map(s -> s)}
+ * pushes every element through a chain of {@code Sink} callbacks, which the JIT rarely
+ * vectorizes. Here the source is cut into chunks of {@value #DEFAULT_CHUNK_SIZE} ints (by
+ * default) and every stage runs a tight loop over the whole chunk, which C2 can unroll and
+ * turn into SIMD instructions:
+ * <pre>
+ * long sum = ChunkedIntPipeline.of(values).map(s -&gt; s * 3).filter(s -&gt; s &gt; 10).sum();
+ * </pre>
+ * Pipelines are immutable; each {@code map}/{@code filter}/{@code apply} returns a new one.
+ * Pipelines over arrays can be run any number of times. Pipelines over a stream or spliterator
+ * consume it, so they support a single terminal operation, like streams do.
+ * Evaluation is sequential.
+ */
+public final class ChunkedIntPipeline {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final IntChunkOperator[] NO_STAGES = {};
+
+    private final int[] array;
+    private final int from;
+    private final int to;
+    private final Spliterator.OfInt spliterator;
+    private final IntChunkOperator[] stages;
+    private final int chunkSize;
+
+    private ChunkedIntPipeline(int[] array, int from, int to, Spliterator.OfInt spliterator,
+                               IntChunkOperator[] stages, int chunkSize) {
+        this.array = array;
+        this.from = from;
+        this.to = to;
+        this.spliterator = spliterator;
+        this.stages = stages;
+        this.chunkSize = chunkSize;
+    }
+
+    public static ChunkedIntPipeline of(int[] values) {
+        return of(values, 0, values.length);
+    }
+
+    public static ChunkedIntPipeline of(int[] values, int from, int to) {
+        if (from < 0 || from > to || to > values.length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + values.length);
+        }
+        return new ChunkedIntPipeline(values, from, to, null, NO_STAGES, DEFAULT_CHUNK_SIZE);
+    }
+
+    public static ChunkedIntPipeline of(IntStream stream) {
+        return of(stream.spliterator());
+    }
+
+    public static ChunkedIntPipeline of(Spliterator.OfInt spliterator) {
+        return new ChunkedIntPipeline(null, 0, 0, spliterator, NO_STAGES, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Returns a pipeline that uses chunks of {@code chunkSize} elements.
+     */
+    public ChunkedIntPipeline chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        return new ChunkedIntPipeline(array, from, to, spliterator, stages, chunkSize);
+    }
+
+    public ChunkedIntPipeline map(IntUnaryOperator mapper) {
+        return apply((chunk, length) -> {
+            for (int i = 0; i < length; i++) {
+                chunk[i] = mapper.applyAsInt(chunk[i]);
+            }
+            return length;
+        });
+    }
+
+    public ChunkedIntPipeline filter(IntPredicate predicate) {
+        return apply((chunk, length) -> {
+            int kept = 0;
+            for (int i = 0; i < length; i++) {
+                int value = chunk[i];
+                if (predicate.test(value)) {
+                    chunk[kept++] = value;
+                }
+            }
+            return kept;
+        });
+    }
+
+    /**
+     * Adds a custom chunk-level stage.
+     */
+    public ChunkedIntPipeline apply(IntChunkOperator operator) {
+        IntChunkOperator[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = operator;
+        return new ChunkedIntPipeline(array, from, to, spliterator, next, chunkSize);
+    }
+
+    // terminal operations
+
+    /**
+     * Returns the sum of the elements as a long, so unlike {@code IntStream.sum()} it does not overflow.
+     */
+    public long sum() {
+        long[] sum = new long[1];
+        run((chunk, length) -> {
+            long s = 0;
+            for (int i = 0; i < length; i++) {
+                s += chunk[i];
+            }
+            sum[0] += s;
+            return length;
+        });
+        return sum[0];
+    }
+
+    public int reduce(int identity, IntBinaryOperator op) {
+        int[] result = {identity};
+        run((chunk, length) -> {
+            int r = result[0];
+            for (int i = 0; i < length; i++) {
+                r = op.applyAsInt(r, chunk[i]);
+            }
+            result[0] = r;
+            return length;
+        });
+        return result[0];
+    }
+
+    public long count() {
+        long[] count = new long[1];
+        run((chunk, length) -> {
+            count[0] += length;
+            return length;
+        });
+        return count[0];
+    }
+
+    public int[] toArray() {
+        IntList result = new IntList(spliterator == null ? to - from : 0);
+        run((chunk, length) -> {
+            result.addAll(chunk, 0, length);
+            return length;
+        });
+        return result.toArray();
+    }
+
+    public void forEach(IntConsumer action) {
+        run((chunk, length) -> {
+            for (int i = 0; i < length; i++) {
+                action.accept(chunk[i]);
+            }
+            return length;
+        });
+    }
+
+    /**
+     * Hands every processed chunk to {@code terminal}, which may read {@code chunk[0, length)}
+     * but must not keep a reference to the array.
+     */
+    public void forEachChunk(IntChunkOperator terminal) {
+        run(terminal);
+    }
+
+    private void run(IntChunkOperator terminal) {
+        if (spliterator == null) {
+            int[] chunk = new int[Math.min(chunkSize, Math.max(1, to - from))];
+            for (int offset = from; offset < to; offset += chunk.length) {
+                int length = Math.min(chunk.length, to - offset);
+                System.arraycopy(array, offset, chunk, 0, length);
+                process(chunk, length, terminal);
+            }
+        } else {
+            Filler filler = new Filler(chunkSize, terminal);
+            spliterator.forEachRemaining(filler);
+            filler.flush();
+        }
+    }
+
+    private void process(int[] chunk, int length, IntChunkOperator terminal) {
+        for (IntChunkOperator stage : stages) {
+            if (length == 0) {
+                return;
+            }
+            length = stage.apply(chunk, length);
+        }
+        if (length > 0) {
+            terminal.apply(chunk, length);
+        }
+    }
+
+    /**
+     * Collects pushed elements into a chunk and processes it each time it fills up.
+     */
+    private final class Filler implements IntConsumer {
+
+        private final int[] chunk;
+        private final IntChunkOperator terminal;
+        private int length;
+
+        Filler(int chunkSize, IntChunkOperator terminal) {
+            this.chunk = new int[chunkSize];
+            this.terminal = terminal;
+        }
+
+        @Override
+        public void accept(int value) {
+            chunk[length++] = value;
+            if (length == chunk.length) {
+                flush();
+            }
+        }
+
+        void flush() {
+            int n = length;
+            length = 0;
+            if (n > 0) {
+                process(chunk, n, terminal);
+            }
+        }
+    }
+}
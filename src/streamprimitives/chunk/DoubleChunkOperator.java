@@ -0,0 +1,17 @@
+package streamprimitives.chunk;
+
+/**
+ * A pipeline stage that transforms a whole chunk of doubles in place.
+ * <p>
+ * Implementations should be a plain counted loop over {@code chunk[0, length)}; that is the
+ * shape the JIT turns into SIMD code.
+ */
+@FunctionalInterface
+public interface DoubleChunkOperator {
+
+    /**
+     * Transforms {@code chunk[0, length)} in place and returns the number of elements that
+     * remain; surviving elements must be compacted to the front of the chunk.
+     */
+    int apply(double[] chunk, int length);
+}
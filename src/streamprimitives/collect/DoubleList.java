@@ -0,0 +1,212 @@
+package streamprimitives.collect;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Growable list of doubles backed by a {@code double[]}; the double counterpart of {@link IntList}.
+ * <p>
+ * Streams and spliterators cover the elements present when they were created; the list must
+ * not be modified while one of them is being traversed. Not thread-safe.
+ */
+public final class DoubleList {
+
+    private static final double[] EMPTY = {};
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private double[] elements;
+    private int size;
+
+    public DoubleList() {
+        elements = EMPTY;
+    }
+
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY : new double[initialCapacity];
+    }
+
+    public static DoubleList of(double... values) {
+        DoubleList list = new DoubleList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Collects a stream into a new list; parallel streams are collected per split and merged.
+     */
+    public static DoubleList from(DoubleStream stream) {
+        return stream.collect(DoubleList::new, DoubleList::add, DoubleList::addAll);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at {@code index} and returns the previous one.
+     */
+    public double set(int index, double value) {
+        checkIndex(index);
+        double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void add(double value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(double[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    public void addAll(double[] values, int from, int to) {
+        if (from < 0 || from > to || to > values.length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + values.length);
+        }
+        int count = to - from;
+        ensureCapacity(size + count);
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public void addAll(DoubleList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    /**
+     * Appends all elements of {@code stream}, in encounter order. Sized streams grow the
+     * backing array once; parallel streams are collected per split and appended in one copy.
+     */
+    public void addAll(DoubleStream stream) {
+        if (stream.isParallel()) {
+            addAll(from(stream));
+            return;
+        }
+        Spliterator.OfDouble spliterator = stream.spliterator();
+        long exactSize = spliterator.getExactSizeIfKnown();
+        if (exactSize > 0) {
+            ensureCapacity((int) Math.min(MAX_CAPACITY, size + exactSize));
+        }
+        spliterator.forEachRemaining((DoubleConsumer) this::add);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + (minCapacity & 0xffffffffL) + " is too large");
+        }
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = MAX_CAPACITY;
+        }
+        newCapacity = Math.max(Math.max(newCapacity, minCapacity), DEFAULT_CAPACITY);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public void forEach(DoubleConsumer action) {
+        double[] elements = this.elements;
+        for (int i = 0, n = size; i < n; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+    }
+
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    public DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DoubleList)) {
+            return false;
+        }
+        DoubleList other = (DoubleList) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(elements[i]) != Double.doubleToLongBits(other.elements[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
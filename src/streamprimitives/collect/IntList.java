@@ -0,0 +1,218 @@
+package streamprimitives.collect;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Growable list of ints backed by an {@code int[]}.
+ * <p>
+ * Replaces the {@code List<Integer>} of {@code Main} ({@code list.add(1)} followed by
+ * {@code list.stream().flatMapToInt(...)}): values are stored unboxed, four bytes each instead
+ * of a reference plus an {@code Integer}, and {@link #stream()} hands them to an
+ * {@code IntStream} directly. The spliterator is {@code SIZED | SUBSIZED}, so parallel
+ * pipelines split the backing array exactly.
+ * <p>
+ * Streams and spliterators cover the elements present when they were created; the list must
+ * not be modified while one of them is being traversed. Not thread-safe.
+ */
+public final class IntList {
+
+    private static final int[] EMPTY = {};
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        elements = EMPTY;
+    }
+
+    public IntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    public static IntList of(int... values) {
+        IntList list = new IntList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Collects a stream into a new list; parallel streams are collected per split and merged.
+     */
+    public static IntList from(IntStream stream) {
+        return stream.collect(IntList::new, IntList::add, IntList::addAll);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at {@code index} and returns the previous one.
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(int[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    public void addAll(int[] values, int from, int to) {
+        if (from < 0 || from > to || to > values.length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + values.length);
+        }
+        int count = to - from;
+        ensureCapacity(size + count);
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public void addAll(IntList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    /**
+     * Appends all elements of {@code stream}, in encounter order. Sized streams grow the
+     * backing array once; parallel streams are collected per split and appended in one copy.
+     */
+    public void addAll(IntStream stream) {
+        if (stream.isParallel()) {
+            addAll(from(stream));
+            return;
+        }
+        Spliterator.OfInt spliterator = stream.spliterator();
+        long exactSize = spliterator.getExactSizeIfKnown();
+        if (exactSize > 0) {
+            ensureCapacity((int) Math.min(MAX_CAPACITY, size + exactSize));
+        }
+        spliterator.forEachRemaining((IntConsumer) this::add);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + (minCapacity & 0xffffffffL) + " is too large");
+        }
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = MAX_CAPACITY;
+        }
+        newCapacity = Math.max(Math.max(newCapacity, minCapacity), DEFAULT_CAPACITY);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        int[] elements = this.elements;
+        for (int i = 0, n = size; i < n; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntList)) {
+            return false;
+        }
+        IntList other = (IntList) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != other.elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,10 @@
+package streamprimitives.collect;
+
+/**
+ * A consumer of an int key and a long value, the entries of an {@link IntLongHashMap}.
+ */
+@FunctionalInterface
+public interface IntLongConsumer {
+
+    void accept(int key, long value);
+}
@@ -0,0 +1,212 @@
+package streamprimitives.collect;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Growable list of longs backed by a {@code long[]}; the long counterpart of {@link IntList}.
+ * <p>
+ * Streams and spliterators cover the elements present when they were created; the list must
+ * not be modified while one of them is being traversed. Not thread-safe.
+ */
+public final class LongList {
+
+    private static final long[] EMPTY = {};
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        elements = EMPTY;
+    }
+
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+    }
+
+    public static LongList of(long... values) {
+        LongList list = new LongList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Collects a stream into a new list; parallel streams are collected per split and merged.
+     */
+    public static LongList from(LongStream stream) {
+        return stream.collect(LongList::new, LongList::add, LongList::addAll);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at {@code index} and returns the previous one.
+     */
+    public long set(int index, long value) {
+        checkIndex(index);
+        long previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void add(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    public void addAll(long[] values, int from, int to) {
+        if (from < 0 || from > to || to > values.length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + values.length);
+        }
+        int count = to - from;
+        ensureCapacity(size + count);
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public void addAll(LongList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    /**
+     * Appends all elements of {@code stream}, in encounter order. Sized streams grow the
+     * backing array once; parallel streams are collected per split and appended in one copy.
+     */
+    public void addAll(LongStream stream) {
+        if (stream.isParallel()) {
+            addAll(from(stream));
+            return;
+        }
+        Spliterator.OfLong spliterator = stream.spliterator();
+        long exactSize = spliterator.getExactSizeIfKnown();
+        if (exactSize > 0) {
+            ensureCapacity((int) Math.min(MAX_CAPACITY, size + exactSize));
+        }
+        spliterator.forEachRemaining((LongConsumer) this::add);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + (minCapacity & 0xffffffffL) + " is too large");
+        }
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = MAX_CAPACITY;
+        }
+        newCapacity = Math.max(Math.max(newCapacity, minCapacity), DEFAULT_CAPACITY);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public void forEach(LongConsumer action) {
+        long[] elements = this.elements;
+        for (int i = 0, n = size; i < n; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongList)) {
+            return false;
+        }
+        LongList other = (LongList) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != other.elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Long.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
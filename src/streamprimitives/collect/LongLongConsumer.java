@@ -0,0 +1,10 @@
+package streamprimitives.collect;
+
+/**
+ * Long-keyed counterpart of {@link IntLongConsumer}.
+ */
+@FunctionalInterface
+public interface LongLongConsumer {
+
+    void accept(long key, long value);
+}
@@ -0,0 +1,267 @@
+package streamprimitives.collect;
+
+import java.util.Arrays;
+
+/**
+ * Long-keyed counterpart of {@link IntLongHashMap}; hashed entries cost 32 to 64 bytes.
+ */
+public final class LongLongHashMap {
+
+    // keys in [0, DENSE_LIMIT) are kept in a plain array indexed by the key
+    static final int DENSE_LIMIT = 1024;
+
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long[] EMPTY = {};
+
+    private long[] dense = EMPTY;
+    // bit i set: key i is present in dense
+    private final long[] densePresent = new long[DENSE_LIMIT / 64];
+    private int denseSize;
+
+    // hashed keys are never 0, which marks a free slot
+    private long[] keys;
+    private long[] values;
+    private int hashedSize;
+    private int mask;
+    private int shift;
+
+    public LongLongHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * A map that holds {@code expectedSize} keys outside the dense range without rehashing.
+     */
+    public LongLongHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal size: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int size) {
+        if (size > MAX_CAPACITY / 2) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, size * 2 - 1)) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    private static boolean isDense(long key) {
+        return key >= 0 && key < DENSE_LIMIT;
+    }
+
+    /**
+     * Fibonacci hashing: the top bits of the key times the golden ratio, which spreads
+     * sequential keys evenly.
+     */
+    private int slot(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    public int size() {
+        return denseSize + hashedSize;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        if (isDense(key)) {
+            return (densePresent[(int) key >>> 6] & 1L << key) != 0;
+        }
+        return keys[find(key)] != 0;
+    }
+
+    /**
+     * The value of {@code key}, or 0 if it is absent.
+     */
+    public long get(long key) {
+        return getOrDefault(key, 0L);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (isDense(key)) {
+            return (densePresent[(int) key >>> 6] & 1L << key) != 0 ? dense[(int) key] : defaultValue;
+        }
+        int slot = find(key);
+        return keys[slot] != 0 ? values[slot] : defaultValue;
+    }
+
+    public void put(long key, long value) {
+        if (isDense(key)) {
+            densePut((int) key, value, false);
+            return;
+        }
+        int slot = insert(key);
+        values[slot] = value;
+    }
+
+    /**
+     * Adds {@code delta} to the value of {@code key}, which starts at 0 if it is absent, and
+     * returns the new value.
+     */
+    public long addTo(long key, long delta) {
+        if (isDense(key)) {
+            return densePut((int) key, delta, true);
+        }
+        int slot = insert(key);
+        return values[slot] += delta;
+    }
+
+    /**
+     * Adds every value of {@code other} to this map; the combiner of a parallel group-by.
+     */
+    public void addAll(LongLongHashMap other) {
+        for (int key = 0; key < other.dense.length; key++) {
+            if ((other.densePresent[key >>> 6] & 1L << key) != 0) {
+                densePut(key, other.dense[key], true);
+            }
+        }
+        long[] otherKeys = other.keys;
+        long[] otherValues = other.values;
+        for (int i = 0; i < otherKeys.length; i++) {
+            if (otherKeys[i] != 0) {
+                int slot = insert(otherKeys[i]);
+                values[slot] += otherValues[i];
+            }
+        }
+    }
+
+    private long densePut(int key, long value, boolean add) {
+        if (key >= dense.length) {
+            dense = Arrays.copyOf(dense, Math.min(DENSE_LIMIT, Math.max(64, Integer.highestOneBit(key) << 1)));
+        }
+        long bit = 1L << key;
+        if ((densePresent[key >>> 6] & bit) == 0) {
+            densePresent[key >>> 6] |= bit;
+            denseSize++;
+            return dense[key] = value;
+        }
+        return add ? (dense[key] += value) : (dense[key] = value);
+    }
+
+    /**
+     * The slot holding {@code key}, or the free slot where it would go.
+     */
+    private int find(long key) {
+        long[] keys = this.keys;
+        int slot = slot(key);
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int insert(long key) {
+        int slot = find(key);
+        if (keys[slot] == 0) {
+            if (hashedSize >= (mask + 1) / 2) {
+                rehash();
+                slot = find(key);
+            }
+            keys[slot] = key;
+            hashedSize++;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int capacity = mask + 1;
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full");
+        }
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = find(key);
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Passes every entry to {@code action}: keys in {@code [0, 1024)} in ascending order, then
+     * the others in no particular order.
+     */
+    public void forEach(LongLongConsumer action) {
+        for (int key = 0; key < dense.length; key++) {
+            if ((densePresent[key >>> 6] & 1L << key) != 0) {
+                action.accept(key, dense[key]);
+            }
+        }
+        long[] keys = this.keys;
+        long[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * The keys, in ascending order.
+     */
+    public long[] keys() {
+        long[] result = new long[size()];
+        int n = 0;
+        for (int key = 0; key < dense.length; key++) {
+            if ((densePresent[key >>> 6] & 1L << key) != 0) {
+                result[n++] = key;
+            }
+        }
+        int hashedFrom = n;
+        for (long key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        Arrays.sort(result, hashedFrom, n);
+        // negative keys sort before the dense ones
+        int negative = hashedFrom;
+        while (negative < n && result[negative] < 0) {
+            negative++;
+        }
+        if (negative > hashedFrom) {
+            long[] sorted = new long[n];
+            System.arraycopy(result, hashedFrom, sorted, 0, negative - hashedFrom);
+            System.arraycopy(result, 0, sorted, negative - hashedFrom, hashedFrom);
+            System.arraycopy(result, negative, sorted, negative, n - negative);
+            return sorted;
+        }
+        return result;
+    }
+
+    public void clear() {
+        Arrays.fill(dense, 0L);
+        Arrays.fill(densePresent, 0L);
+        denseSize = 0;
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, 0L);
+        hashedSize = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder().append('{');
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
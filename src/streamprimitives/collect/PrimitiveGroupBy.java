@@ -0,0 +1,109 @@
+package streamprimitives.collect;
+
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Group-by and histogram terminals with primitive keys and values.
+ * <p>
+ * Counting words by length with the JDK boxes every length, every count and every map entry:
+ * <pre>
+ * Map&lt;Integer, Long&gt; byLength = words.stream().collect(groupingBy(String::length, counting()));
+ * </pre>
+ * These terminals accumulate into an {@link IntLongHashMap} or {@link LongLongHashMap} instead,
+ * whose small non-negative keys go straight to an array slot:
+ * <pre>
+ * IntLongHashMap byLength = PrimitiveGroupBy.countBy(words.stream(), String::length);
+ * long[] lengths = PrimitiveGroupBy.histogram(words.stream().mapToInt(String::length), 64);
+ * </pre>
+ * All of them are {@code collect} operations: parallel streams accumulate one map or array
+ * per split and merge them pairwise, without locks.
+ */
+public final class PrimitiveGroupBy {
+
+    private PrimitiveGroupBy() {
+    }
+
+    /**
+     * The number of occurrences of every distinct value.
+     */
+    public static IntLongHashMap countBy(IntStream keys) {
+        return keys.collect(IntLongHashMap::new, (map, key) -> map.addTo(key, 1L), IntLongHashMap::addAll);
+    }
+
+    public static LongLongHashMap countBy(LongStream keys) {
+        return keys.collect(LongLongHashMap::new, (map, key) -> map.addTo(key, 1L), LongLongHashMap::addAll);
+    }
+
+    /**
+     * The number of elements per key, without creating an intermediate {@code IntStream}.
+     */
+    public static <T> IntLongHashMap countBy(Stream<T> stream, ToIntFunction<? super T> key) {
+        return stream.collect(IntLongHashMap::new, (map, element) -> map.addTo(key.applyAsInt(element), 1L),
+                IntLongHashMap::addAll);
+    }
+
+    /**
+     * The sum of the values per {@code key(value)}, in a {@code long}.
+     */
+    public static IntLongHashMap sumBy(IntStream values, IntUnaryOperator key) {
+        return values.collect(IntLongHashMap::new, (map, value) -> map.addTo(key.applyAsInt(value), value),
+                IntLongHashMap::addAll);
+    }
+
+    /**
+     * The sum of the values per {@code key(value)}; sums wrap on overflow.
+     */
+    public static LongLongHashMap sumBy(LongStream values, LongUnaryOperator key) {
+        return values.collect(LongLongHashMap::new, (map, value) -> map.addTo(key.applyAsLong(value), value),
+                LongLongHashMap::addAll);
+    }
+
+    public static <T> IntLongHashMap sumBy(Stream<T> stream, ToIntFunction<? super T> key,
+                                           ToLongFunction<? super T> value) {
+        return stream.collect(IntLongHashMap::new,
+                (map, element) -> map.addTo(key.applyAsInt(element), value.applyAsLong(element)),
+                IntLongHashMap::addAll);
+    }
+
+    /**
+     * Counts of the keys in {@code [0, bound)}, indexed by key.
+     *
+     * @throws IllegalArgumentException if a key is outside {@code [0, bound)}
+     */
+    public static long[] histogram(IntStream keys, int bound) {
+        checkBound(bound);
+        return keys.collect(() -> new long[bound], (counts, key) -> counts[checkKey(key, bound)]++,
+                PrimitiveGroupBy::merge);
+    }
+
+    public static long[] histogram(LongStream keys, int bound) {
+        checkBound(bound);
+        return keys.collect(() -> new long[bound], (counts, key) -> counts[checkKey(key, bound)]++,
+                PrimitiveGroupBy::merge);
+    }
+
+    private static void checkBound(int bound) {
+        if (bound < 0) {
+            throw new IllegalArgumentException("Negative bound: " + bound);
+        }
+    }
+
+    private static int checkKey(long key, int bound) {
+        if (key < 0 || key >= bound) {
+            throw new IllegalArgumentException("Key out of range [0, " + bound + "): " + key);
+        }
+        return (int) key;
+    }
+
+    private static void merge(long[] counts, long[] other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other[i];
+        }
+    }
+}
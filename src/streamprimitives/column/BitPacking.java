@@ -0,0 +1,90 @@
+package streamprimitives.column;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Packs unsigned values of a fixed bit width back to back into little-endian 64-bit words.
+ * A block of n values of width w takes ceil(n * w / 64) words; width 0 takes none.
+ */
+final class BitPacking {
+
+    private BitPacking() {
+    }
+
+    /**
+     * Number of bits needed for {@code value} read as unsigned.
+     */
+    static int width(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    static int packedBytes(int count, int width) {
+        return (int) (((long) count * width + 63) >>> 6) << 3;
+    }
+
+    /**
+     * Writes {@code values[from, to)} minus {@code reference}, each of which must fit in
+     * {@code width} bits.
+     */
+    static void pack(long[] values, int from, int to, long reference, int width, ByteBuffer out) {
+        if (width == 0) {
+            return;
+        }
+        if (width == 64) {
+            for (int i = from; i < to; i++) {
+                out.putLong(values[i] - reference);
+            }
+            return;
+        }
+        long word = 0L;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            long v = values[i] - reference;
+            word |= v << bits;
+            bits += width;
+            if (bits >= 64) {
+                out.putLong(word);
+                bits -= 64;
+                word = bits > 0 ? v >>> (width - bits) : 0L;
+            }
+        }
+        if (bits > 0) {
+            out.putLong(word);
+        }
+    }
+
+    /**
+     * Reads values into {@code out[from, to)}, adding {@code reference} to each.
+     */
+    static void unpack(ByteBuffer in, int width, long reference, long[] out, int from, int to) {
+        if (width == 0) {
+            for (int i = from; i < to; i++) {
+                out[i] = reference;
+            }
+            return;
+        }
+        if (width == 64) {
+            for (int i = from; i < to; i++) {
+                out[i] = in.getLong() + reference;
+            }
+            return;
+        }
+        long mask = (1L << width) - 1;
+        long word = 0L;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            long v;
+            if (bits >= width) {
+                v = word & mask;
+                word >>>= width;
+                bits -= width;
+            } else {
+                long next = in.getLong();
+                v = (word | next << bits) & mask;
+                word = next >>> (width - bits);
+                bits += 64 - width;
+            }
+            out[i] = v + reference;
+        }
+    }
+}
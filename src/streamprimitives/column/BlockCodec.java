@@ -0,0 +1,130 @@
+package streamprimitives.column;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encoding of one block of values.
+ * <p>
+ * Every block is a run of longs packed with {@link BitPacking}, in one of two layouts, whichever
+ * is smaller:
+ * <ul>
+ * <li>frame of reference: {@code value - min} for every value, in
+ * {@code width(max - min)} bits;</li>
+ * <li>delta: the first value in the index, then {@code value[i] - value[i - 1] - minDelta} for
+ * the rest, which wins for sorted or slowly changing data such as ids and timestamps.</li>
+ * </ul>
+ * Double blocks are first turned into longs: as {@code value * 10^scale} for the smallest scale
+ * up to {@link #MAX_SCALE} at which every value round-trips exactly (prices, percentages,
+ * sensor readings with a fixed number of decimals), otherwise as order-preserving bit patterns,
+ * which still share their high bits when the values are close.
+ */
+final class BlockCodec {
+
+    static final int MAX_SCALE = 6;
+
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6};
+
+    private BlockCodec() {
+    }
+
+    /**
+     * Encodes {@code values[0, count)} into {@code out} and records the layout in {@code meta}.
+     * {@code scratch} must be as long as {@code values}.
+     */
+    static void encode(long[] values, int count, long[] scratch, BlockMeta meta, ByteBuffer out) {
+        long min = values[0];
+        long max = values[0];
+        for (int i = 1; i < count; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        int forWidth = BitPacking.width(max - min);
+        if (count > 1) {
+            long minDelta = Long.MAX_VALUE;
+            long maxDelta = Long.MIN_VALUE;
+            for (int i = 1; i < count; i++) {
+                long delta = values[i] - values[i - 1];
+                scratch[i - 1] = delta;
+                minDelta = Math.min(minDelta, delta);
+                maxDelta = Math.max(maxDelta, delta);
+            }
+            int deltaWidth = BitPacking.width(maxDelta - minDelta);
+            if ((long) (count - 1) * deltaWidth < (long) count * forWidth) {
+                meta.encoding = BlockMeta.DELTA;
+                meta.width = (byte) deltaWidth;
+                meta.reference = minDelta;
+                meta.first = values[0];
+                BitPacking.pack(scratch, 0, count - 1, minDelta, deltaWidth, out);
+                return;
+            }
+        }
+        meta.encoding = BlockMeta.FRAME_OF_REFERENCE;
+        meta.width = (byte) forWidth;
+        meta.reference = min;
+        BitPacking.pack(values, 0, count, min, forWidth, out);
+    }
+
+    static void decode(BlockMeta meta, ByteBuffer in, long[] out) {
+        int count = meta.count;
+        if (meta.encoding == BlockMeta.DELTA) {
+            BitPacking.unpack(in, meta.width, meta.reference, out, 1, count);
+            long value = meta.first;
+            out[0] = value;
+            for (int i = 1; i < count; i++) {
+                value += out[i];
+                out[i] = value;
+            }
+        } else {
+            BitPacking.unpack(in, meta.width, meta.reference, out, 0, count);
+        }
+    }
+
+    /**
+     * Maps doubles to longs for {@link #encode} and returns the scale used, or
+     * {@link BlockMeta#SORTABLE_BITS}.
+     */
+    static byte toLongs(double[] values, int count, long[] out) {
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            if (scaled(values, count, POWERS_OF_TEN[scale], out)) {
+                return (byte) scale;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            long bits = Double.doubleToRawLongBits(values[i]);
+            out[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        return BlockMeta.SORTABLE_BITS;
+    }
+
+    private static boolean scaled(double[] values, int count, double factor, long[] out) {
+        for (int i = 0; i < count; i++) {
+            double value = values[i];
+            double scaled = value * factor;
+            // also rejects NaN and infinities
+            if (!(Math.abs(scaled) < 0x1p53)) {
+                return false;
+            }
+            long rounded = (long) Math.rint(scaled);
+            // bit equality also rejects -0.0, which would come back as 0.0
+            if (Double.doubleToRawLongBits(rounded / factor) != Double.doubleToRawLongBits(value)) {
+                return false;
+            }
+            out[i] = rounded;
+        }
+        return true;
+    }
+
+    static void toDoubles(long[] values, int count, byte scale, double[] out) {
+        if (scale == BlockMeta.SORTABLE_BITS) {
+            for (int i = 0; i < count; i++) {
+                long sortable = values[i];
+                out[i] = Double.longBitsToDouble(sortable ^ ((sortable >> 63) & Long.MAX_VALUE));
+            }
+        } else {
+            double factor = POWERS_OF_TEN[scale];
+            for (int i = 0; i < count; i++) {
+                out[i] = values[i] / factor;
+            }
+        }
+    }
+}
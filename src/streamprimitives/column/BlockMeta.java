@@ -0,0 +1,75 @@
+package streamprimitives.column;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Index entry of one block, kept in the footer so that a reader can plan a scan, skip blocks
+ * and answer aggregates without touching the block data.
+ * <p>
+ * Values are stored as longs: int and long columns directly, double columns as scaled decimals
+ * or order-preserving bits (see {@link BlockCodec}). {@code min}, {@code max} and {@code sum}
+ * hold the column's own values, as raw double bits for double columns.
+ */
+final class BlockMeta {
+
+    static final int BYTES = 60;
+
+    static final byte FRAME_OF_REFERENCE = 0;
+    static final byte DELTA = 1;
+
+    /**
+     * Double columns only: the longs are the order-preserving bit patterns of the doubles
+     * rather than decimals scaled by 10<sup>scale</sup>.
+     */
+    static final byte SORTABLE_BITS = -1;
+
+    long offset;
+    int length;
+    int count;
+    byte encoding;
+    byte width;
+    byte scale;
+    // FRAME_OF_REFERENCE: minimum value; DELTA: minimum difference
+    long reference;
+    // DELTA: first value
+    long first;
+    long min;
+    long max;
+    long sum;
+
+    void write(ByteBuffer out) {
+        out.putLong(offset).putInt(length).putInt(count)
+                .put(encoding).put(width).put(scale).put((byte) 0)
+                .putLong(reference).putLong(first)
+                .putLong(min).putLong(max).putLong(sum);
+    }
+
+    static BlockMeta read(ByteBuffer in) {
+        BlockMeta meta = new BlockMeta();
+        meta.offset = in.getLong();
+        meta.length = in.getInt();
+        meta.count = in.getInt();
+        meta.encoding = in.get();
+        meta.width = in.get();
+        meta.scale = in.get();
+        in.get();
+        meta.reference = in.getLong();
+        meta.first = in.getLong();
+        meta.min = in.getLong();
+        meta.max = in.getLong();
+        meta.sum = in.getLong();
+        return meta;
+    }
+
+    double minAsDouble() {
+        return Double.longBitsToDouble(min);
+    }
+
+    double maxAsDouble() {
+        return Double.longBitsToDouble(max);
+    }
+
+    double sumAsDouble() {
+        return Double.longBitsToDouble(sum);
+    }
+}
@@ -0,0 +1,56 @@
+package streamprimitives.column;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads and decodes blocks of a {@link ColumnFile} into reusable arrays; one per spliterator,
+ * since positional reads on the shared channel are thread-safe but the buffers are not.
+ */
+final class BlockReader {
+
+    private final FileChannel channel;
+    private final ByteBuffer bytes;
+    private final long[] longs;
+    private double[] doubles;
+
+    BlockReader(FileChannel channel, int maxBlockBytes, int blockSize) {
+        this.channel = channel;
+        this.bytes = ByteBuffer.allocate(maxBlockBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.longs = new long[blockSize];
+    }
+
+    long[] readLongs(BlockMeta meta) {
+        read(meta);
+        BlockCodec.decode(meta, bytes, longs);
+        return longs;
+    }
+
+    double[] readDoubles(BlockMeta meta) {
+        if (doubles == null) {
+            doubles = new double[longs.length];
+        }
+        BlockCodec.toDoubles(readLongs(meta), meta.count, meta.scale, doubles);
+        return doubles;
+    }
+
+    private void read(BlockMeta meta) {
+        bytes.clear().limit(meta.length);
+        try {
+            long position = meta.offset;
+            while (bytes.hasRemaining()) {
+                int n = channel.read(bytes, position);
+                if (n < 0) {
+                    throw new IOException("Column file truncated in block at " + meta.offset);
+                }
+                position += n;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bytes.flip();
+    }
+}
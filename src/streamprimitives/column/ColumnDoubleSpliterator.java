@@ -0,0 +1,121 @@
+package streamprimitives.column;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Double counterpart of {@link ColumnIntSpliterator}. Blocks containing NaN have a NaN
+ * minimum and maximum and are never skipped or treated as contained.
+ */
+final class ColumnDoubleSpliterator implements Spliterator.OfDouble {
+
+    private final ColumnFile file;
+    private final int fence;
+    private final boolean filtered;
+    private final double lo;
+    private final double hi;
+    private int block;
+    private BlockReader reader;
+    private double[] values;
+    private int index;
+    private int limit;
+    // the current block lies entirely within [lo, hi]
+    private boolean contained;
+
+    ColumnDoubleSpliterator(ColumnFile file, int block, int fence, boolean filtered, double lo, double hi) {
+        this.file = file;
+        this.block = block;
+        this.fence = fence;
+        this.filtered = filtered;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    private boolean nextBlock() {
+        while (block < fence) {
+            BlockMeta meta = file.block(block++);
+            if (filtered) {
+                double min = meta.minAsDouble();
+                double max = meta.maxAsDouble();
+                if (max < lo || min > hi) {
+                    continue;
+                }
+                contained = min >= lo && max <= hi;
+            } else {
+                contained = true;
+            }
+            if (reader == null) {
+                reader = file.newReader();
+            }
+            values = reader.readDoubles(meta);
+            index = 0;
+            limit = meta.count;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        do {
+            while (index < limit) {
+                double value = values[index++];
+                if (contained || value >= lo && value <= hi) {
+                    action.accept(value);
+                    return true;
+                }
+            }
+        } while (nextBlock());
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        do {
+            double[] values = this.values;
+            int limit = this.limit;
+            if (contained) {
+                for (int i = index; i < limit; i++) {
+                    action.accept(values[i]);
+                }
+            } else {
+                for (int i = index; i < limit; i++) {
+                    double value = values[i];
+                    if (value >= lo && value <= hi) {
+                        action.accept(value);
+                    }
+                }
+            }
+            index = limit;
+        } while (nextBlock());
+    }
+
+    /**
+     * Splits off the first half of the remaining blocks; a partly consumed block is never split
+     * off, since it precedes them.
+     */
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        if (index < limit || fence - block < 2) {
+            return null;
+        }
+        int mid = (block + fence) >>> 1;
+        Spliterator.OfDouble prefix = new ColumnDoubleSpliterator(file, block, mid, filtered, lo, hi);
+        block = mid;
+        return prefix;
+    }
+
+    /**
+     * Exact when unfiltered, otherwise an upper bound.
+     */
+    @Override
+    public long estimateSize() {
+        return limit - index + file.countBetween(block, fence);
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = ORDERED | IMMUTABLE | NONNULL;
+        return filtered ? characteristics : characteristics | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,317 @@
+package streamprimitives.column;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import streamprimitives.reduce.DoubleSumAccumulator;
+import streamprimitives.reduce.SummationMode;
+
+/**
+ * A column written by {@link ColumnWriter}, read back as a stream or queried through its block
+ * index.
+ * <p>
+ * The file is a header, the compressed blocks, and a footer holding each block's offset, count,
+ * minimum, maximum and sum, all little-endian. Opening reads only the footer, so
+ * {@link #count()}, {@link #sum()} and {@link #average()} cost nothing per element, and
+ * {@link #countInRange(long, long)} decodes only the blocks that straddle a bound:
+ * <pre>
+ * try (ColumnFile lengths = ColumnFile.open(path)) {
+ *     long longWords = lengths.countInRange(10, Integer.MAX_VALUE);
+ *     int[] sample = lengths.ints(10, 12).limit(100).toArray();
+ * }
+ * </pre>
+ * Streams decode one block at a time into a reused buffer and split on block boundaries, so
+ * {@code parallel()} reads disjoint parts of the file. Range-filtered streams skip blocks whose
+ * minimum and maximum rule them out. Streams read through this file's channel and fail with an
+ * {@link java.io.UncheckedIOException} once it is closed. A {@code ColumnFile} is safe for use
+ * by multiple threads.
+ */
+public final class ColumnFile implements Closeable {
+
+    // "SPCL" when read as little-endian bytes
+    static final int MAGIC = 0x4C435053;
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 12;
+    static final int TRAILER_BYTES = 24;
+
+    private final FileChannel channel;
+    private final ColumnType type;
+    private final int blockSize;
+    private final BlockMeta[] blocks;
+    // starts[i]: number of values before block i
+    private final long[] starts;
+    private final int maxBlockBytes;
+
+    private ColumnFile(FileChannel channel, ColumnType type, int blockSize, BlockMeta[] blocks) {
+        this.channel = channel;
+        this.type = type;
+        this.blockSize = blockSize;
+        this.blocks = blocks;
+        this.starts = new long[blocks.length + 1];
+        int maxBytes = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            starts[i + 1] = starts[i] + blocks[i].count;
+            maxBytes = Math.max(maxBytes, blocks[i].length);
+        }
+        this.maxBlockBytes = maxBytes;
+    }
+
+    public static ColumnFile open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return read(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static ColumnFile read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IOException("Not a column file: too short");
+        }
+        ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a column file: bad magic");
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported column file version " + version);
+        }
+        int typeIndex = header.get();
+        if (typeIndex < 0 || typeIndex >= ColumnType.values().length) {
+            throw new IOException("Unknown column type " + typeIndex);
+        }
+        ColumnType type = ColumnType.values()[typeIndex];
+        header.getShort();
+        int blockSize = header.getInt();
+
+        ByteBuffer trailer = readFully(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+        int blockCount = trailer.getInt();
+        long total = trailer.getLong();
+        long footerOffset = trailer.getLong();
+        if (trailer.getInt() != MAGIC) {
+            throw new IOException("Column file truncated or not closed");
+        }
+        if (blockCount < 0 || footerOffset + (long) blockCount * BlockMeta.BYTES + TRAILER_BYTES != size) {
+            throw new IOException("Corrupt column file footer");
+        }
+        ByteBuffer footer = readFully(channel, footerOffset, blockCount * BlockMeta.BYTES);
+        BlockMeta[] blocks = new BlockMeta[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blocks[i] = BlockMeta.read(footer);
+        }
+        ColumnFile column = new ColumnFile(channel, type, blockSize, blocks);
+        if (column.count() != total) {
+            throw new IOException("Corrupt column file footer");
+        }
+        return column;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Column file truncated");
+            }
+        }
+        return buffer.flip();
+    }
+
+    public ColumnType type() {
+        return type;
+    }
+
+    public long count() {
+        return starts[blocks.length];
+    }
+
+    public int blockCount() {
+        return blocks.length;
+    }
+
+    /**
+     * The sum of an {@code INT} or {@code LONG} column, from the block index; overflows like
+     * {@link LongStream#sum()}.
+     */
+    public long sum() {
+        checkIntegral();
+        long sum = 0;
+        for (BlockMeta meta : blocks) {
+            sum += meta.sum;
+        }
+        return sum;
+    }
+
+    /**
+     * The sum of a {@code DOUBLE} column, from the block index. Blocks are summed with
+     * {@link SummationMode#NEUMAIER} when written and the block sums are combined the same way.
+     */
+    public double doubleSum() {
+        if (type != ColumnType.DOUBLE) {
+            throw new IllegalStateException("Not a DOUBLE column: " + type);
+        }
+        DoubleSumAccumulator sum = SummationMode.NEUMAIER.newAccumulator();
+        for (BlockMeta meta : blocks) {
+            sum.accept(meta.sumAsDouble());
+        }
+        return sum.getSum();
+    }
+
+    public OptionalDouble average() {
+        long count = count();
+        if (count == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((type == ColumnType.DOUBLE ? doubleSum() : (double) sum()) / count);
+    }
+
+    /**
+     * Counts the values in {@code [lo, hi]}, decoding only blocks that lie partly in the range.
+     */
+    public long countInRange(long lo, long hi) {
+        if (type == ColumnType.DOUBLE) {
+            return countInRange((double) lo, (double) hi);
+        }
+        BlockReader reader = null;
+        long count = 0;
+        for (BlockMeta meta : blocks) {
+            if (meta.max < lo || meta.min > hi) {
+                continue;
+            }
+            if (meta.min >= lo && meta.max <= hi) {
+                count += meta.count;
+                continue;
+            }
+            if (reader == null) {
+                reader = newReader();
+            }
+            long[] values = reader.readLongs(meta);
+            for (int i = 0; i < meta.count; i++) {
+                if (values[i] >= lo && values[i] <= hi) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the values in {@code [lo, hi]}; NaN is never in range. On an integral column the
+     * bounds are rounded inwards.
+     */
+    public long countInRange(double lo, double hi) {
+        if (type != ColumnType.DOUBLE) {
+            return Double.isNaN(lo) || Double.isNaN(hi) ? 0 : countInRange((long) Math.ceil(lo), (long) Math.floor(hi));
+        }
+        BlockReader reader = null;
+        long count = 0;
+        for (BlockMeta meta : blocks) {
+            double min = meta.minAsDouble();
+            double max = meta.maxAsDouble();
+            if (max < lo || min > hi) {
+                continue;
+            }
+            // false for blocks containing NaN, whose minimum and maximum are NaN
+            if (min >= lo && max <= hi) {
+                count += meta.count;
+                continue;
+            }
+            if (reader == null) {
+                reader = newReader();
+            }
+            double[] values = reader.readDoubles(meta);
+            for (int i = 0; i < meta.count; i++) {
+                if (values[i] >= lo && values[i] <= hi) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public IntStream ints() {
+        checkType(ColumnType.INT);
+        return StreamSupport.intStream(new ColumnIntSpliterator(this, 0, blocks.length, false, 0, 0), false);
+    }
+
+    /**
+     * The values in {@code [lo, hi]}, in file order.
+     */
+    public IntStream ints(int lo, int hi) {
+        checkType(ColumnType.INT);
+        return StreamSupport.intStream(new ColumnIntSpliterator(this, 0, blocks.length, true, lo, hi), false);
+    }
+
+    /**
+     * The values of an {@code INT} or {@code LONG} column.
+     */
+    public LongStream longs() {
+        checkIntegral();
+        return StreamSupport.longStream(new ColumnLongSpliterator(this, 0, blocks.length, false, 0, 0), false);
+    }
+
+    public LongStream longs(long lo, long hi) {
+        checkIntegral();
+        return StreamSupport.longStream(new ColumnLongSpliterator(this, 0, blocks.length, true, lo, hi), false);
+    }
+
+    /**
+     * The values of a {@code DOUBLE} column, or of an integral one widened.
+     */
+    public DoubleStream doubles() {
+        if (type != ColumnType.DOUBLE) {
+            return longs().asDoubleStream();
+        }
+        return StreamSupport.doubleStream(new ColumnDoubleSpliterator(this, 0, blocks.length, false, 0, 0), false);
+    }
+
+    public DoubleStream doubles(double lo, double hi) {
+        checkType(ColumnType.DOUBLE);
+        return StreamSupport.doubleStream(new ColumnDoubleSpliterator(this, 0, blocks.length, true, lo, hi), false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    BlockMeta block(int index) {
+        return blocks[index];
+    }
+
+    /**
+     * Number of values in blocks {@code [from, to)}.
+     */
+    long countBetween(int from, int to) {
+        return starts[to] - starts[from];
+    }
+
+    BlockReader newReader() {
+        return new BlockReader(channel, maxBlockBytes, blockSize);
+    }
+
+    private void checkType(ColumnType expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Not " + (expected == ColumnType.INT ? "an " : "a ") + expected
+                    + " column: " + type);
+        }
+    }
+
+    private void checkIntegral() {
+        if (type == ColumnType.DOUBLE) {
+            throw new IllegalStateException("Not an integral column: " + type);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package streamprimitives.column;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Streams the values of an {@code INT} column block by block, optionally only those in
+ * {@code [lo, hi]}.
+ */
+final class ColumnIntSpliterator implements Spliterator.OfInt {
+
+    private final ColumnFile file;
+    private final int fence;
+    private final boolean filtered;
+    private final long lo;
+    private final long hi;
+    private int block;
+    private BlockReader reader;
+    private long[] values;
+    private int index;
+    private int limit;
+    // the current block lies entirely within [lo, hi]
+    private boolean contained;
+
+    ColumnIntSpliterator(ColumnFile file, int block, int fence, boolean filtered, long lo, long hi) {
+        this.file = file;
+        this.block = block;
+        this.fence = fence;
+        this.filtered = filtered;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    private boolean nextBlock() {
+        while (block < fence) {
+            BlockMeta meta = file.block(block++);
+            if (filtered) {
+                long min = meta.min;
+                long max = meta.max;
+                if (max < lo || min > hi) {
+                    continue;
+                }
+                contained = min >= lo && max <= hi;
+            } else {
+                contained = true;
+            }
+            if (reader == null) {
+                reader = file.newReader();
+            }
+            values = reader.readLongs(meta);
+            index = 0;
+            limit = meta.count;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        do {
+            while (index < limit) {
+                int value = (int) values[index++];
+                if (contained || value >= lo && value <= hi) {
+                    action.accept(value);
+                    return true;
+                }
+            }
+        } while (nextBlock());
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        do {
+            long[] values = this.values;
+            int limit = this.limit;
+            if (contained) {
+                for (int i = index; i < limit; i++) {
+                    action.accept((int) values[i]);
+                }
+            } else {
+                for (int i = index; i < limit; i++) {
+                    int value = (int) values[i];
+                    if (value >= lo && value <= hi) {
+                        action.accept(value);
+                    }
+                }
+            }
+            index = limit;
+        } while (nextBlock());
+    }
+
+    /**
+     * Splits off the first half of the remaining blocks; a partly consumed block is never split
+     * off, since it precedes them.
+     */
+    @Override
+    public Spliterator.OfInt trySplit() {
+        if (index < limit || fence - block < 2) {
+            return null;
+        }
+        int mid = (block + fence) >>> 1;
+        Spliterator.OfInt prefix = new ColumnIntSpliterator(file, block, mid, filtered, lo, hi);
+        block = mid;
+        return prefix;
+    }
+
+    /**
+     * Exact when unfiltered, otherwise an upper bound.
+     */
+    @Override
+    public long estimateSize() {
+        return limit - index + file.countBetween(block, fence);
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = ORDERED | IMMUTABLE | NONNULL;
+        return filtered ? characteristics : characteristics | SIZED | SUBSIZED;
+    }
+}
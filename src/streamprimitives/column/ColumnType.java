@@ -0,0 +1,8 @@
+package streamprimitives.column;
+
+/**
+ * Element type of a column file.
+ */
+public enum ColumnType {
+    INT, LONG, DOUBLE
+}
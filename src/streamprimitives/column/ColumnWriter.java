@@ -0,0 +1,274 @@
+package streamprimitives.column;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import streamprimitives.reduce.DoubleSumAccumulator;
+import streamprimitives.reduce.SummationMode;
+
+/**
+ * Writes one column of primitives to a {@link ColumnFile}, a block of values at a time.
+ * <p>
+ * Each block is compressed on its own (see {@link BlockCodec}) and its count, minimum, maximum
+ * and sum go to the footer, which is written on {@link #close()}:
+ * <pre>
+ * ColumnWriter.write(path, strings.stream().mapToInt(String::length));
+ *
+ * try (ColumnWriter writer = ColumnWriter.create(path, ColumnType.DOUBLE)) {
+ *     prices.forEach(writer);
+ * }
+ * </pre>
+ * A writer accepts its own element type and narrower ones: an {@code INT} column takes ints, a
+ * {@code LONG} column ints and longs, a {@code DOUBLE} column all three. It is not thread-safe;
+ * the static {@code write} methods feed it with {@code forEachOrdered}. Write errors inside the
+ * consumer methods are thrown as {@link UncheckedIOException}.
+ */
+public final class ColumnWriter implements IntConsumer, LongConsumer, DoubleConsumer, Closeable {
+
+    public static final int DEFAULT_BLOCK_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ColumnType type;
+    private final int blockSize;
+    private final long[] longs;
+    private final long[] scratch;
+    private final double[] doubles;
+    private final DoubleSumAccumulator doubleSum;
+    private final ByteBuffer out;
+    private final List<BlockMeta> blocks = new ArrayList<>();
+    private int size;
+    private long position = ColumnFile.HEADER_BYTES;
+    private long total;
+    private boolean closed;
+
+    private ColumnWriter(FileChannel channel, ColumnType type, int blockSize) {
+        this.channel = channel;
+        this.type = type;
+        this.blockSize = blockSize;
+        this.longs = new long[blockSize];
+        this.scratch = new long[blockSize];
+        this.doubles = type == ColumnType.DOUBLE ? new double[blockSize] : null;
+        this.doubleSum = type == ColumnType.DOUBLE ? SummationMode.NEUMAIER.newAccumulator() : null;
+        this.out = ByteBuffer.allocate(Math.max(BitPacking.packedBytes(blockSize, 64), ColumnFile.HEADER_BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static ColumnWriter create(Path file, ColumnType type) throws IOException {
+        return create(file, type, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates or truncates the file. Larger blocks compress slightly better; smaller ones let
+     * range filters skip more precisely.
+     */
+    public static ColumnWriter create(Path file, ColumnType type, int blockSize) throws IOException {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ColumnWriter writer = new ColumnWriter(channel, type, blockSize);
+        try {
+            writer.writeHeader();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return writer;
+    }
+
+    public static void write(Path file, IntStream stream) throws IOException {
+        try (ColumnWriter writer = create(file, ColumnType.INT)) {
+            writer.drain(() -> stream.forEachOrdered(writer));
+        }
+    }
+
+    public static void write(Path file, LongStream stream) throws IOException {
+        try (ColumnWriter writer = create(file, ColumnType.LONG)) {
+            writer.drain(() -> stream.forEachOrdered(writer));
+        }
+    }
+
+    public static void write(Path file, DoubleStream stream) throws IOException {
+        try (ColumnWriter writer = create(file, ColumnType.DOUBLE)) {
+            writer.drain(() -> stream.forEachOrdered(writer));
+        }
+    }
+
+    public ColumnType type() {
+        return type;
+    }
+
+    @Override
+    public void accept(int value) {
+        if (type == ColumnType.DOUBLE) {
+            accept((double) value);
+        } else {
+            append(value);
+        }
+    }
+
+    @Override
+    public void accept(long value) {
+        if (type != ColumnType.LONG) {
+            if (type == ColumnType.DOUBLE) {
+                accept((double) value);
+                return;
+            }
+            throw new IllegalStateException("Cannot write a long to an INT column");
+        }
+        append(value);
+    }
+
+    @Override
+    public void accept(double value) {
+        if (type != ColumnType.DOUBLE) {
+            throw new IllegalStateException("Cannot write a double to a " + type + " column");
+        }
+        checkOpen();
+        doubles[size] = value;
+        if (++size == blockSize) {
+            writeBlock();
+        }
+    }
+
+    private void append(long value) {
+        checkOpen();
+        longs[size] = value;
+        if (++size == blockSize) {
+            writeBlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Writer closed");
+        }
+    }
+
+    /**
+     * Writes the last block, the footer and the trailer, and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (size > 0) {
+                flushBlock();
+            }
+            writeFooter();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drain(Runnable terminal) throws IOException {
+        try {
+            terminal.run();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeBlock() {
+        try {
+            flushBlock();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        BlockMeta meta = new BlockMeta();
+        meta.offset = position;
+        meta.count = size;
+        if (type == ColumnType.DOUBLE) {
+            summarizeDoubles(meta);
+            meta.scale = BlockCodec.toLongs(doubles, size, longs);
+        } else {
+            summarizeLongs(meta);
+        }
+        out.clear();
+        BlockCodec.encode(longs, size, scratch, meta, out);
+        out.flip();
+        meta.length = out.remaining();
+        writeFully(out);
+        position += meta.length;
+        total += size;
+        blocks.add(meta);
+        size = 0;
+    }
+
+    private void summarizeLongs(BlockMeta meta) {
+        long min = longs[0];
+        long max = longs[0];
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            long value = longs[i];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+        }
+        meta.min = min;
+        meta.max = max;
+        meta.sum = sum;
+    }
+
+    private void summarizeDoubles(BlockMeta meta) {
+        // Math.min/max propagate NaN, which marks the block as unskippable for range filters
+        double min = doubles[0];
+        double max = doubles[0];
+        doubleSum.reset();
+        for (int i = 0; i < size; i++) {
+            double value = doubles[i];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            doubleSum.accept(value);
+        }
+        meta.min = Double.doubleToRawLongBits(min);
+        meta.max = Double.doubleToRawLongBits(max);
+        meta.sum = Double.doubleToRawLongBits(doubleSum.getSum());
+    }
+
+    private void writeHeader() throws IOException {
+        out.clear();
+        out.putInt(ColumnFile.MAGIC).put(ColumnFile.VERSION).put((byte) type.ordinal()).putShort((short) 0)
+                .putInt(blockSize);
+        out.flip();
+        writeFully(out);
+    }
+
+    private void writeFooter() throws IOException {
+        ByteBuffer footer = ByteBuffer.allocate(blocks.size() * BlockMeta.BYTES + ColumnFile.TRAILER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (BlockMeta meta : blocks) {
+            meta.write(footer);
+        }
+        footer.putInt(blocks.size()).putLong(total).putLong(position).putInt(ColumnFile.MAGIC);
+        footer.flip();
+        writeFully(footer);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package streamprimitives.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Stripe layout and thread-to-stripe mapping shared by the striped accumulators.
+ * <p>
+ * All stripes live in one {@code long[]} updated through a {@link VarHandle}. Each stripe
+ * starts {@link #PAD} longs (128 bytes) after the end of the previous one, so two stripes never
+ * share a cache line, nor a pair of adjacent lines fetched together. A thread keeps updating
+ * the same stripe until a failed compare-and-set shows that another thread is using it, then
+ * moves to another one, the way {@link java.util.concurrent.atomic.LongAdder} spreads threads
+ * over its cells.
+ */
+abstract class Striped {
+
+    static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static final int PAD = 16;
+
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private static final ThreadLocal<Probe> PROBE = ThreadLocal.withInitial(Probe::new);
+
+    final long[] cells;
+    final int stride;
+    private final int mask;
+
+    /**
+     * @param slots longs per stripe
+     */
+    Striped(int slots) {
+        this.stride = (slots + PAD + 7) & ~7;
+        this.mask = STRIPES - 1;
+        this.cells = new long[PAD + STRIPES * stride];
+    }
+
+    /**
+     * The smallest power of two that is at least twice the number of processors, so that
+     * threads rarely need to move.
+     */
+    private static int stripes(int processors) {
+        return Integer.highestOneBit(Math.max(1, Math.min(processors, 1 << 10)) * 4 - 1);
+    }
+
+    /**
+     * Index of the first slot of the current thread's stripe.
+     */
+    final int stripe() {
+        return PAD + (PROBE.get().hash & mask) * stride;
+    }
+
+    /**
+     * Moves the current thread to another stripe after contention and returns its index.
+     */
+    final int contended() {
+        Probe probe = PROBE.get();
+        int h = probe.hash;
+        // xorshift
+        h ^= h << 13;
+        h ^= h >>> 17;
+        h ^= h << 5;
+        probe.hash = h;
+        return PAD + (h & mask) * stride;
+    }
+
+    final int stripeCount() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds {@code delta} to a slot of the current thread's stripe and returns the stripe used.
+     */
+    final int add(int slot, long delta) {
+        long[] cells = this.cells;
+        int stripe = stripe();
+        long current = (long) LONGS.getVolatile(cells, stripe + slot);
+        if (!LONGS.compareAndSet(cells, stripe + slot, current, current + delta)) {
+            stripe = contended();
+            LONGS.getAndAdd(cells, stripe + slot, delta);
+        }
+        return stripe;
+    }
+
+    /**
+     * The sum of a slot over all stripes.
+     */
+    final long sum(int slot) {
+        long sum = 0;
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            sum += (long) LONGS.getVolatile(cells, stripe + slot);
+        }
+        return sum;
+    }
+
+    /**
+     * Sets a slot in every stripe.
+     */
+    final void fill(int slot, long value) {
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            LONGS.setVolatile(cells, stripe + slot, value);
+        }
+    }
+
+    private static final class Probe {
+        int hash = initialHash();
+
+        private static int initialHash() {
+            int h = Long.hashCode(Thread.currentThread().getId() * 0x9E3779B97F4A7C15L);
+            // never 0, which xorshift would keep at 0
+            return h == 0 ? 1 : h;
+        }
+    }
+}
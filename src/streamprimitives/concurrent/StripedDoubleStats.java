@@ -0,0 +1,124 @@
+package streamprimitives.concurrent;
+
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * Count, sum, min, max and average of double values, updated concurrently without locks.
+ * <p>
+ * The shared counterpart of {@link streamprimitives.reduce.DoubleSummary}; see
+ * {@link StripedLongStats}. Doubles are kept as their bits and updated with compare-and-set.
+ * The sum is a plain running total per stripe, like
+ * {@link java.util.concurrent.atomic.DoubleAdder}, so its rounding depends on how values were
+ * spread over threads. Min and max propagate {@code NaN}.
+ */
+public final class StripedDoubleStats extends Striped implements DoubleConsumer {
+
+    private static final int COUNT = 0;
+    private static final int SUM = 1;
+    private static final int MIN = 2;
+    private static final int MAX = 3;
+
+    private static final long POSITIVE_INFINITY = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+    private static final long NEGATIVE_INFINITY = Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY);
+
+    public StripedDoubleStats() {
+        super(4);
+        reset();
+    }
+
+    /**
+     * Records every element of the stream, in any order and from any thread, and returns this.
+     */
+    public StripedDoubleStats acceptAll(DoubleStream stream) {
+        stream.forEach(this);
+        return this;
+    }
+
+    @Override
+    public void accept(double value) {
+        long[] cells = this.cells;
+        int stripe = stripe();
+        long sum = (long) LONGS.getVolatile(cells, stripe + SUM);
+        if (!LONGS.compareAndSet(cells, stripe + SUM, sum, bits(Double.longBitsToDouble(sum) + value))) {
+            stripe = contended();
+            do {
+                sum = (long) LONGS.getVolatile(cells, stripe + SUM);
+            } while (!LONGS.weakCompareAndSet(cells, stripe + SUM, sum, bits(Double.longBitsToDouble(sum) + value)));
+        }
+        LONGS.getAndAdd(cells, stripe + COUNT, 1L);
+        while (true) {
+            long current = (long) LONGS.getVolatile(cells, stripe + MIN);
+            long min = bits(Math.min(Double.longBitsToDouble(current), value));
+            if (min == current || LONGS.weakCompareAndSet(cells, stripe + MIN, current, min)) {
+                break;
+            }
+        }
+        while (true) {
+            long current = (long) LONGS.getVolatile(cells, stripe + MAX);
+            long max = bits(Math.max(Double.longBitsToDouble(current), value));
+            if (max == current || LONGS.weakCompareAndSet(cells, stripe + MAX, current, max)) {
+                break;
+            }
+        }
+    }
+
+    private static long bits(double value) {
+        return Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Resets every stripe; values recorded concurrently may be lost or kept.
+     */
+    public void reset() {
+        fill(COUNT, 0L);
+        fill(SUM, 0L);
+        fill(MIN, POSITIVE_INFINITY);
+        fill(MAX, NEGATIVE_INFINITY);
+    }
+
+    public long getCount() {
+        return sum(COUNT);
+    }
+
+    public double getSum() {
+        double sum = 0.0d;
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            sum += Double.longBitsToDouble((long) LONGS.getVolatile(cells, stripe + SUM));
+        }
+        return sum;
+    }
+
+    /**
+     * The minimum, or {@code Double.POSITIVE_INFINITY} if nothing was recorded.
+     */
+    public double getMin() {
+        double min = Double.POSITIVE_INFINITY;
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            min = Math.min(min, Double.longBitsToDouble((long) LONGS.getVolatile(cells, stripe + MIN)));
+        }
+        return min;
+    }
+
+    /**
+     * The maximum, or {@code Double.NEGATIVE_INFINITY} if nothing was recorded.
+     */
+    public double getMax() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            max = Math.max(max, Double.longBitsToDouble((long) LONGS.getVolatile(cells, stripe + MAX)));
+        }
+        return max;
+    }
+
+    public double getAverage() {
+        long count = getCount();
+        return count > 0 ? getSum() / count : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedDoubleStats{count=" + getCount() + ", sum=" + getSum() + ", min=" + getMin()
+                + ", average=" + getAverage() + ", max=" + getMax() + '}';
+    }
+}
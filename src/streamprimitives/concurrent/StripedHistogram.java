@@ -0,0 +1,170 @@
+package streamprimitives.concurrent;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Counts of values in equal-width buckets over {@code [lo, hi)}, updated concurrently without
+ * locks.
+ * <p>
+ * Every stripe holds a full set of bucket counters, so threads recording into the same bucket
+ * do not contend; reads add up the stripes. Values below {@code lo} are counted as underflow,
+ * values at or above {@code hi} as overflow and {@code NaN} separately:
+ * <pre>
+ * StripedHistogram lengths = new StripedHistogram(0, 100, 20);
+ * lines.parallelStream().mapToInt(String::length).forEach(lengths);
+ * long[] counts = lengths.getCounts();
+ * </pre>
+ * Memory is the number of buckets times the number of stripes (twice the processor count,
+ * rounded up to a power of two), so the bucket count is limited to {@value #MAX_BUCKETS}:
+ * about 4 MB with 128 stripes.
+ */
+public final class StripedHistogram extends Striped implements IntConsumer, LongConsumer, DoubleConsumer {
+
+    public static final int MAX_BUCKETS = 4096;
+
+    private static final int UNDERFLOW = 0;
+
+    private final double lo;
+    private final double hi;
+    private final int buckets;
+    private final double scale;
+
+    public StripedHistogram(double lo, double hi, int buckets) {
+        super(checkBuckets(buckets) + 3);
+        if (!(lo < hi) || Double.isInfinite(hi - lo)) {
+            throw new IllegalArgumentException("Invalid range [" + lo + ", " + hi + ")");
+        }
+        this.lo = lo;
+        this.hi = hi;
+        this.buckets = buckets;
+        this.scale = buckets / (hi - lo);
+    }
+
+    private static int checkBuckets(int buckets) {
+        if (buckets <= 0 || buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Bucket count out of range: " + buckets);
+        }
+        return buckets;
+    }
+
+    /**
+     * Records every element of the stream, in any order and from any thread, and returns this.
+     */
+    public StripedHistogram acceptAll(IntStream stream) {
+        stream.forEach(this);
+        return this;
+    }
+
+    public StripedHistogram acceptAll(LongStream stream) {
+        stream.forEach(this);
+        return this;
+    }
+
+    public StripedHistogram acceptAll(DoubleStream stream) {
+        stream.forEach(this);
+        return this;
+    }
+
+    @Override
+    public void accept(int value) {
+        accept((double) value);
+    }
+
+    @Override
+    public void accept(long value) {
+        accept((double) value);
+    }
+
+    @Override
+    public void accept(double value) {
+        add(slot(value), 1L);
+    }
+
+    private int slot(double value) {
+        if (value < lo) {
+            return UNDERFLOW;
+        }
+        if (value >= hi) {
+            return buckets + 1;
+        }
+        if (value != value) {
+            return buckets + 2;
+        }
+        // rounding may put values just below hi past the last bucket
+        return 1 + Math.min((int) ((value - lo) * scale), buckets - 1);
+    }
+
+    /**
+     * Resets every stripe; values recorded concurrently may be lost or kept.
+     */
+    public void reset() {
+        for (int slot = 0; slot < buckets + 3; slot++) {
+            fill(slot, 0L);
+        }
+    }
+
+    public int getBucketCount() {
+        return buckets;
+    }
+
+    /**
+     * The inclusive lower bound of a bucket; bucket {@code i} ends where bucket {@code i + 1}
+     * starts, the last one at {@code hi}.
+     */
+    public double getBucketLow(int bucket) {
+        if (bucket < 0 || bucket > buckets) {
+            throw new IndexOutOfBoundsException(bucket);
+        }
+        return bucket == buckets ? hi : lo + bucket / scale;
+    }
+
+    public long getCount(int bucket) {
+        if (bucket < 0 || bucket >= buckets) {
+            throw new IndexOutOfBoundsException(bucket);
+        }
+        return sum(1 + bucket);
+    }
+
+    /**
+     * The count of every bucket, in order.
+     */
+    public long[] getCounts() {
+        long[] counts = new long[buckets];
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            for (int i = 0; i < buckets; i++) {
+                counts[i] += (long) LONGS.getVolatile(cells, stripe + 1 + i);
+            }
+        }
+        return counts;
+    }
+
+    public long getUnderflow() {
+        return sum(UNDERFLOW);
+    }
+
+    public long getOverflow() {
+        return sum(buckets + 1);
+    }
+
+    public long getNaNCount() {
+        return sum(buckets + 2);
+    }
+
+    /**
+     * Every recorded value, including underflow, overflow and {@code NaN}.
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            for (int slot = 0; slot < buckets + 3; slot++) {
+                total += (long) LONGS.getVolatile(cells, stripe + slot);
+            }
+        }
+        return total;
+    }
+}
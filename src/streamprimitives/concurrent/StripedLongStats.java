@@ -0,0 +1,119 @@
+package streamprimitives.concurrent;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Count, sum, min, max and average of long values, updated concurrently without locks.
+ * <p>
+ * The shared counterpart of {@link streamprimitives.reduce.LongSummary}: many parallel
+ * pipelines can feed one instance through {@code forEach}, each thread updating its own
+ * cache-line-padded stripe, where a {@code synchronized} summary or a single
+ * {@code AtomicLong} would make them take turns:
+ * <pre>
+ * StripedLongStats latency = new StripedLongStats();
+ * requests.parallelStream().mapToLong(Request::nanos).forEach(latency);
+ * batches.parallelStream().mapToLong(Batch::nanos).forEach(latency);
+ * </pre>
+ * Like {@link java.util.concurrent.atomic.LongAdder}, reads add up the stripes and are not an
+ * atomic snapshot while updates are in flight. The sum wraps on overflow, like
+ * {@code LongStream.sum()}.
+ */
+public final class StripedLongStats extends Striped implements LongConsumer, IntConsumer {
+
+    private static final int COUNT = 0;
+    private static final int SUM = 1;
+    private static final int MIN = 2;
+    private static final int MAX = 3;
+
+    public StripedLongStats() {
+        super(4);
+        reset();
+    }
+
+    /**
+     * Records every element of the stream, in any order and from any thread, and returns this.
+     */
+    public StripedLongStats acceptAll(LongStream stream) {
+        stream.forEach(this);
+        return this;
+    }
+
+    public StripedLongStats acceptAll(IntStream stream) {
+        stream.forEach(this);
+        return this;
+    }
+
+    @Override
+    public void accept(long value) {
+        long[] cells = this.cells;
+        int stripe = add(SUM, value);
+        LONGS.getAndAdd(cells, stripe + COUNT, 1L);
+        long min = (long) LONGS.getVolatile(cells, stripe + MIN);
+        while (value < min && !LONGS.weakCompareAndSet(cells, stripe + MIN, min, value)) {
+            min = (long) LONGS.getVolatile(cells, stripe + MIN);
+        }
+        long max = (long) LONGS.getVolatile(cells, stripe + MAX);
+        while (value > max && !LONGS.weakCompareAndSet(cells, stripe + MAX, max, value)) {
+            max = (long) LONGS.getVolatile(cells, stripe + MAX);
+        }
+    }
+
+    @Override
+    public void accept(int value) {
+        accept((long) value);
+    }
+
+    /**
+     * Resets every stripe; values recorded concurrently may be lost or kept.
+     */
+    public void reset() {
+        fill(COUNT, 0L);
+        fill(SUM, 0L);
+        fill(MIN, Long.MAX_VALUE);
+        fill(MAX, Long.MIN_VALUE);
+    }
+
+    public long getCount() {
+        return sum(COUNT);
+    }
+
+    public long getSum() {
+        return sum(SUM);
+    }
+
+    /**
+     * The minimum, or {@code Long.MAX_VALUE} if nothing was recorded.
+     */
+    public long getMin() {
+        long min = Long.MAX_VALUE;
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            min = Math.min(min, (long) LONGS.getVolatile(cells, stripe + MIN));
+        }
+        return min;
+    }
+
+    /**
+     * The maximum, or {@code Long.MIN_VALUE} if nothing was recorded.
+     */
+    public long getMax() {
+        long max = Long.MIN_VALUE;
+        for (int stripe = PAD; stripe < cells.length; stripe += stride) {
+            max = Math.max(max, (long) LONGS.getVolatile(cells, stripe + MAX));
+        }
+        return max;
+    }
+
+    public double getAverage() {
+        long count = getCount();
+        return count > 0 ? (double) getSum() / count : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedLongStats{count=" + getCount() + ", sum=" + getSum() + ", min=" + getMin()
+                + ", average=" + getAverage() + ", max=" + getMax() + '}';
+    }
+}
@@ -0,0 +1,80 @@
+package streamprimitives.flat;
+
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator that replaces each element of a source with the zero or more ints the mapper
+ * pushes into a downstream {@link IntConsumer}. Bulk traversal passes the downstream action
+ * straight to the mapper; {@code tryAdvance} parks the pushed values in a small reusable buffer.
+ */
+final class MultiMapIntSpliterator<T> implements Spliterator.OfInt, IntConsumer {
+
+    private final Spliterator<T> source;
+    private final BiConsumer<? super T, ? super IntConsumer> mapper;
+    private final Consumer<T> fill;
+
+    private int[] buffer = new int[8];
+    private int head;
+    private int tail;
+
+    MultiMapIntSpliterator(Spliterator<T> source, BiConsumer<? super T, ? super IntConsumer> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+        this.fill = t -> mapper.accept(t, this);
+    }
+
+    /**
+     * Buffer sink used by {@link #tryAdvance}.
+     */
+    @Override
+    public void accept(int value) {
+        if (tail == buffer.length) {
+            int[] grown = new int[buffer.length << 1];
+            System.arraycopy(buffer, 0, grown, 0, tail);
+            buffer = grown;
+        }
+        buffer[tail++] = value;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        while (head == tail) {
+            head = tail = 0;
+            if (!source.tryAdvance(fill)) {
+                return false;
+            }
+        }
+        action.accept(buffer[head++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        while (head < tail) {
+            action.accept(buffer[head++]);
+        }
+        source.forEachRemaining(t -> mapper.accept(t, action));
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        if (head < tail) {
+            return null;
+        }
+        Spliterator<T> prefix = source.trySplit();
+        return prefix == null ? null : new MultiMapIntSpliterator<>(prefix, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+}
@@ -0,0 +1,78 @@
+package streamprimitives.flat;
+
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Long counterpart of {@link MultiMapIntSpliterator}.
+ */
+final class MultiMapLongSpliterator<T> implements Spliterator.OfLong, LongConsumer {
+
+    private final Spliterator<T> source;
+    private final BiConsumer<? super T, ? super LongConsumer> mapper;
+    private final Consumer<T> fill;
+
+    private long[] buffer = new long[8];
+    private int head;
+    private int tail;
+
+    MultiMapLongSpliterator(Spliterator<T> source, BiConsumer<? super T, ? super LongConsumer> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+        this.fill = t -> mapper.accept(t, this);
+    }
+
+    /**
+     * Buffer sink used by {@link #tryAdvance}.
+     */
+    @Override
+    public void accept(long value) {
+        if (tail == buffer.length) {
+            long[] grown = new long[buffer.length << 1];
+            System.arraycopy(buffer, 0, grown, 0, tail);
+            buffer = grown;
+        }
+        buffer[tail++] = value;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        while (head == tail) {
+            head = tail = 0;
+            if (!source.tryAdvance(fill)) {
+                return false;
+            }
+        }
+        action.accept(buffer[head++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (head < tail) {
+            action.accept(buffer[head++]);
+        }
+        source.forEachRemaining(t -> mapper.accept(t, action));
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        if (head < tail) {
+            return null;
+        }
+        Spliterator<T> prefix = source.trySplit();
+        return prefix == null ? null : new MultiMapLongSpliterator<>(prefix, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+}
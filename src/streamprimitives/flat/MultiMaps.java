@@ -0,0 +1,64 @@
+package streamprimitives.flat;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * "Multi-map" operators: the allocation-free alternative to {@code flatMapToInt},
+ * {@code flatMapToLong} and {@code flatMapToDouble}.
+ * <p>
+ * {@code list.stream().flatMapToInt(y -> IntStream.of(y))} builds a whole stream pipeline for
+ * every element just to hand over one int. Here the mapper pushes zero or more primitives
+ * straight into the downstream consumer instead:
+ * <pre>
+ * IntStream ints = MultiMaps.mapMultiToInt(list.stream(), (y, sink) -&gt; sink.accept(y));
+ * int[] flat = MultiMaps.mapMultiToInt(rows, (row, sink) -&gt; {
+ *     for (int value : row) {
+ *         sink.accept(value);
+ *     }
+ * }).toArray();
+ * </pre>
+ * The shape follows {@code Stream.mapMultiToInt} of later JDKs. The result keeps the source's
+ * parallelism, splits wherever the source splits, and closes the source when it is closed.
+ * The downstream consumer must only be used during the mapper call that received it.
+ */
+public final class MultiMaps {
+
+    private MultiMaps() {
+    }
+
+    public static <T> IntStream mapMultiToInt(Stream<T> stream, BiConsumer<? super T, ? super IntConsumer> mapper) {
+        return StreamSupport.intStream(new MultiMapIntSpliterator<>(stream.spliterator(), mapper), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    public static <T> IntStream mapMultiToInt(Collection<T> source, BiConsumer<? super T, ? super IntConsumer> mapper) {
+        return StreamSupport.intStream(new MultiMapIntSpliterator<>(source.spliterator(), mapper), false);
+    }
+
+    public static <T> LongStream mapMultiToLong(Stream<T> stream, BiConsumer<? super T, ? super LongConsumer> mapper) {
+        return StreamSupport.longStream(new MultiMapLongSpliterator<>(stream.spliterator(), mapper), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    public static <T> LongStream mapMultiToLong(Collection<T> source, BiConsumer<? super T, ? super LongConsumer> mapper) {
+        return StreamSupport.longStream(new MultiMapLongSpliterator<>(source.spliterator(), mapper), false);
+    }
+
+    public static <T> DoubleStream mapMultiToDouble(Stream<T> stream, BiConsumer<? super T, ? super DoubleConsumer> mapper) {
+        return StreamSupport.doubleStream(new MultiMapDoubleSpliterator<>(stream.spliterator(), mapper), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    public static <T> DoubleStream mapMultiToDouble(Collection<T> source, BiConsumer<? super T, ? super DoubleConsumer> mapper) {
+        return StreamSupport.doubleStream(new MultiMapDoubleSpliterator<>(source.spliterator(), mapper), false);
+    }
+}
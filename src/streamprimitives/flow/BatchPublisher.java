@@ -0,0 +1,53 @@
+package streamprimitives.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A cold publisher of primitive batches: every subscriber gets its own run of the pipeline on a
+ * thread of the executor.
+ */
+abstract class BatchPublisher<B> implements Flow.Publisher<B> {
+
+    private static final Flow.Subscription REJECTED = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final Executor executor;
+    final int batchSize;
+
+    BatchPublisher(Executor executor, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super B> subscriber) {
+        Objects.requireNonNull(subscriber);
+        try {
+            executor.execute(new BatchSubscription<>(this, subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.onSubscribe(REJECTED);
+            subscriber.onError(e);
+        }
+    }
+
+    /**
+     * Runs the pipeline to the end, passing every filled batch and the last partial one to
+     * {@link BatchSubscription#emit}. The supplied stream is made sequential first, so the
+     * pipeline runs on the subscription's thread and never parks a common-pool worker while it
+     * waits for demand.
+     */
+    abstract void drain(BatchSubscription<B> subscription);
+}
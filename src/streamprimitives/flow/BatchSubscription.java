@@ -0,0 +1,151 @@
+package streamprimitives.flow;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One subscription to a {@link BatchPublisher}: runs the pipeline on the executor's thread and
+ * hands each filled batch to the subscriber once it has been requested.
+ * <p>
+ * The publishers run the pipeline sequentially, even if the supplied stream is parallel, so
+ * every signal ({@code onSubscribe}, {@code onNext}, {@code onError}, {@code onComplete}) is
+ * sent from the pipeline thread and they never overlap. Waiting for demand uses a
+ * {@link ReentrantLock} rather than {@code synchronized}, which would pin a virtual thread to
+ * its carrier while it waits.
+ */
+final class BatchSubscription<B> implements Flow.Subscription, Runnable {
+
+    /**
+     * Unwinds the pipeline out of {@code forEachOrdered} once it must stop.
+     */
+    private static final class Stop extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Stop() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Stop STOP = new Stop();
+
+    private final BatchPublisher<B> publisher;
+    private final Flow.Subscriber<? super B> subscriber;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition demanded = lock.newCondition();
+
+    private long demand;
+    private boolean cancelled;
+    private Throwable error;
+
+    BatchSubscription(BatchPublisher<B> publisher, Flow.Subscriber<? super B> subscriber) {
+        this.publisher = publisher;
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+        lock.lock();
+        try {
+            if (cancelled || error != null) {
+                return;
+            }
+            if (n <= 0) {
+                error = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            demanded.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        lock.lock();
+        try {
+            cancelled = true;
+            demanded.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        subscriber.onSubscribe(this);
+        try {
+            checkRunning();
+            publisher.drain(this);
+        } catch (Stop stop) {
+            // cancelled, or a pending error that is delivered below
+        } catch (Throwable t) {
+            fail(t);
+        }
+        Throwable failure;
+        lock.lock();
+        try {
+            if (cancelled) {
+                return;
+            }
+            failure = error;
+            cancelled = true;
+        } finally {
+            lock.unlock();
+        }
+        if (failure != null) {
+            subscriber.onError(failure);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Blocks the pipeline thread until the subscriber has requested a batch, then delivers it.
+     */
+    void emit(B batch) {
+        lock.lock();
+        try {
+            while (demand == 0 && !cancelled && error == null) {
+                demanded.await();
+            }
+            if (cancelled || error != null) {
+                throw STOP;
+            }
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = e;
+            throw STOP;
+        } finally {
+            lock.unlock();
+        }
+        subscriber.onNext(batch);
+    }
+
+    private void checkRunning() {
+        lock.lock();
+        try {
+            if (cancelled || error != null) {
+                throw STOP;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(Throwable t) {
+        lock.lock();
+        try {
+            if (error == null) {
+                error = t;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
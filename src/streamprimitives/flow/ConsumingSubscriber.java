@@ -0,0 +1,62 @@
+package streamprimitives.flow;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Hands every batch to an action and keeps {@code PREFETCH} batches requested.
+ * <p>
+ * {@code onNext} runs on the pipeline thread, so batches are still filled and consumed one
+ * after the other. The outstanding demand only means that the thread finds the next batch
+ * already requested when {@code onNext} returns, and goes on filling it without parking on the
+ * demand condition.
+ */
+final class ConsumingSubscriber<B> implements Flow.Subscriber<B> {
+
+    private static final int PREFETCH = 2;
+
+    private final Consumer<? super B> action;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+
+    ConsumingSubscriber(Consumer<? super B> action) {
+        this.action = action;
+    }
+
+    CompletableFuture<Void> done() {
+        return done;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(PREFETCH);
+    }
+
+    @Override
+    public void onNext(B batch) {
+        if (done.isDone()) {
+            subscription.cancel();
+            return;
+        }
+        try {
+            action.accept(batch);
+        } catch (Throwable t) {
+            subscription.cancel();
+            done.completeExceptionally(t);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        done.completeExceptionally(error);
+    }
+
+    @Override
+    public void onComplete() {
+        done.complete(null);
+    }
+}
@@ -0,0 +1,56 @@
+package streamprimitives.flow;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Double counterpart of {@link IntBatchPublisher}.
+ */
+final class DoubleBatchPublisher extends BatchPublisher<double[]> {
+
+    private final Supplier<? extends DoubleStream> pipeline;
+
+    DoubleBatchPublisher(Executor executor, int batchSize, Supplier<? extends DoubleStream> pipeline) {
+        super(executor, batchSize);
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    void drain(BatchSubscription<double[]> subscription) {
+        try (DoubleStream stream = pipeline.get().sequential()) {
+            Batcher batcher = new Batcher(subscription);
+            stream.forEachOrdered(batcher);
+            batcher.flush();
+        }
+    }
+
+    private final class Batcher implements DoubleConsumer {
+        private final BatchSubscription<double[]> subscription;
+        private double[] batch = new double[batchSize];
+        private int length;
+
+        Batcher(BatchSubscription<double[]> subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void accept(double value) {
+            batch[length++] = value;
+            if (length == batch.length) {
+                double[] full = batch;
+                batch = new double[batchSize];
+                length = 0;
+                subscription.emit(full);
+            }
+        }
+
+        void flush() {
+            if (length > 0) {
+                subscription.emit(Arrays.copyOf(batch, length));
+            }
+        }
+    }
+}
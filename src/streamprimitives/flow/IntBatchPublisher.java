@@ -0,0 +1,56 @@
+package streamprimitives.flow;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Publishes the elements of an {@code IntStream} pipeline as {@code int[]} batches.
+ */
+final class IntBatchPublisher extends BatchPublisher<int[]> {
+
+    private final Supplier<? extends IntStream> pipeline;
+
+    IntBatchPublisher(Executor executor, int batchSize, Supplier<? extends IntStream> pipeline) {
+        super(executor, batchSize);
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    void drain(BatchSubscription<int[]> subscription) {
+        try (IntStream stream = pipeline.get().sequential()) {
+            Batcher batcher = new Batcher(subscription);
+            stream.forEachOrdered(batcher);
+            batcher.flush();
+        }
+    }
+
+    private final class Batcher implements IntConsumer {
+        private final BatchSubscription<int[]> subscription;
+        private int[] batch = new int[batchSize];
+        private int length;
+
+        Batcher(BatchSubscription<int[]> subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void accept(int value) {
+            batch[length++] = value;
+            if (length == batch.length) {
+                int[] full = batch;
+                batch = new int[batchSize];
+                length = 0;
+                subscription.emit(full);
+            }
+        }
+
+        void flush() {
+            if (length > 0) {
+                subscription.emit(Arrays.copyOf(batch, length));
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package streamprimitives.flow;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Long counterpart of {@link IntBatchPublisher}.
+ */
+final class LongBatchPublisher extends BatchPublisher<long[]> {
+
+    private final Supplier<? extends LongStream> pipeline;
+
+    LongBatchPublisher(Executor executor, int batchSize, Supplier<? extends LongStream> pipeline) {
+        super(executor, batchSize);
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    void drain(BatchSubscription<long[]> subscription) {
+        try (LongStream stream = pipeline.get().sequential()) {
+            Batcher batcher = new Batcher(subscription);
+            stream.forEachOrdered(batcher);
+            batcher.flush();
+        }
+    }
+
+    private final class Batcher implements LongConsumer {
+        private final BatchSubscription<long[]> subscription;
+        private long[] batch = new long[batchSize];
+        private int length;
+
+        Batcher(BatchSubscription<long[]> subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void accept(long value) {
+            batch[length++] = value;
+            if (length == batch.length) {
+                long[] full = batch;
+                batch = new long[batchSize];
+                length = 0;
+                subscription.emit(full);
+            }
+        }
+
+        void flush() {
+            if (length > 0) {
+                subscription.emit(Arrays.copyOf(batch, length));
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package streamprimitives.flow;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Runs primitive stream pipelines on their own threads and publishes the results as
+ * {@link Flow.Publisher}s of {@code int[]}, {@code long[]} or {@code double[]} batches.
+ * <p>
+ * A pipeline in {@code Main} such as {@code random.limit(3).forEach(System.out::println)} runs
+ * on the calling thread, and {@code parallel()} only ever uses the common
+ * {@code ForkJoinPool}. Here each subscription runs its pipeline on a thread of this executor
+ * and blocks there, not on the caller, while the source blocks or the subscriber has not
+ * requested more:
+ * <pre>
+ * try (PrimitiveFlowExecutor executor = new PrimitiveFlowExecutor()) {
+ *     Flow.Publisher&lt;int[]&gt; readings = executor.publishInts(() -&gt; sensor.readings().filter(r -&gt; r &gt; 0));
+ *     PrimitiveFlowExecutor.consumeInts(readings, System.out::println).join();
+ * }
+ * </pre>
+ * On Java 21 and later the default executor starts one virtual thread per subscription, so a
+ * source blocked on I/O does not hold a platform thread and thousands of pipelines can run at
+ * once. On older runtimes it falls back to a cached pool of daemon platform threads.
+ * <p>
+ * The publishers are cold: the pipeline supplier is called again for every subscriber. A
+ * parallel pipeline is run sequentially on the subscription's thread. Elements
+ * are grouped into batches of {@code batchSize} (the last one may be shorter) so that
+ * backpressure is paid per batch rather than per element; {@code request(n)} asks for n
+ * batches. A new array is published for every batch, so subscribers may keep it.
+ */
+public final class PrimitiveFlowExecutor implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    /**
+     * Uses one virtual thread per subscription when the runtime supports it.
+     */
+    public PrimitiveFlowExecutor() {
+        ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "primitive-flow");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the pipelines on the given executor, which is shut down by {@link #close()}.
+     */
+    public PrimitiveFlowExecutor(ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.virtualThreads = false;
+    }
+
+    /**
+     * Whether the pipelines run on virtual threads created by this executor.
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Flow.Publisher<int[]> publishInts(Supplier<? extends IntStream> pipeline) {
+        return publishInts(pipeline, DEFAULT_BATCH_SIZE);
+    }
+
+    public Flow.Publisher<int[]> publishInts(Supplier<? extends IntStream> pipeline, int batchSize) {
+        return new IntBatchPublisher(executor, batchSize, Objects.requireNonNull(pipeline));
+    }
+
+    public Flow.Publisher<long[]> publishLongs(Supplier<? extends LongStream> pipeline) {
+        return publishLongs(pipeline, DEFAULT_BATCH_SIZE);
+    }
+
+    public Flow.Publisher<long[]> publishLongs(Supplier<? extends LongStream> pipeline, int batchSize) {
+        return new LongBatchPublisher(executor, batchSize, Objects.requireNonNull(pipeline));
+    }
+
+    public Flow.Publisher<double[]> publishDoubles(Supplier<? extends DoubleStream> pipeline) {
+        return publishDoubles(pipeline, DEFAULT_BATCH_SIZE);
+    }
+
+    public Flow.Publisher<double[]> publishDoubles(Supplier<? extends DoubleStream> pipeline, int batchSize) {
+        return new DoubleBatchPublisher(executor, batchSize, Objects.requireNonNull(pipeline));
+    }
+
+    /**
+     * Subscribes to the publisher and passes every element to the action, on the publishing
+     * thread. The future completes when the publisher does; cancelling it cancels the
+     * subscription at the next batch.
+     */
+    public static CompletableFuture<Void> consumeInts(Flow.Publisher<int[]> publisher, IntConsumer action) {
+        Objects.requireNonNull(action);
+        return consume(publisher, batch -> {
+            for (int value : batch) {
+                action.accept(value);
+            }
+        });
+    }
+
+    public static CompletableFuture<Void> consumeLongs(Flow.Publisher<long[]> publisher, LongConsumer action) {
+        Objects.requireNonNull(action);
+        return consume(publisher, batch -> {
+            for (long value : batch) {
+                action.accept(value);
+            }
+        });
+    }
+
+    public static CompletableFuture<Void> consumeDoubles(Flow.Publisher<double[]> publisher, DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        return consume(publisher, batch -> {
+            for (double value : batch) {
+                action.accept(value);
+            }
+        });
+    }
+
+    private static <B> CompletableFuture<Void> consume(Flow.Publisher<B> publisher, Consumer<B> action) {
+        ConsumingSubscriber<B> subscriber = new ConsumingSubscriber<>(action);
+        publisher.subscribe(subscriber);
+        return subscriber.done();
+    }
+
+    /**
+     * Stops accepting subscriptions and interrupts the running pipelines; a pipeline waiting for
+     * demand ends with {@code onError(InterruptedException)}.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() is only there from Java 21 on
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package streamprimitives.fuse;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Entry point for fused conversion chains.
+ * <p>
+ * Every {@code map}, {@code mapToObj}, {@code mapToDouble}, {@code mapToLong} and
+ * {@code mapToInt} in {@code Main} adds its own pipeline stage. A fused chain records the same
+ * calls but composes the functions as they are added, so the resulting stream has at most one
+ * stage on top of the source, whatever the number of conversions:
+ * <pre>
+ * DoubleStream d = Fused.of(objS)
+ *         .mapToInt(s -&gt; s.length())
+ *         .map(IntUnaryOperator.identity())   // dropped
+ *         .mapToLong(s -&gt; s)
+ *         .mapToDouble(s -&gt; s)
+ *         .stream();                           // objS.mapToDouble(...), a single stage
+ * </pre>
+ * The {@code identity()} operators of {@code IntUnaryOperator}, {@code LongUnaryOperator},
+ * {@code DoubleUnaryOperator} and {@code Function} are dropped outright; any other map, including
+ * a hand-written {@code s -> s}, is folded into the single stage, where it costs a call the JIT
+ * inlines rather than a {@code Sink}. A trip through {@code Stream<Integer>} and back
+ * ({@code intS.mapToObj(s -> s).mapToInt(s -> s)}) is counted by
+ * {@code boxingRoundTrips()} and shown by {@code explain()}.
+ * <p>
+ * The built stream keeps the source's parallelism, ordering and close handlers, and yields
+ * exactly the elements the unfused chain would. Chains are immutable, but like the source stream
+ * only one of them may be turned into a stream.
+ */
+public final class Fused {
+
+    private Fused() {
+    }
+
+    public static FusedIntStream of(IntStream source) {
+        return new FusedIntStream(source, FusedChain.Kind.INT, null, 0, 0, 0);
+    }
+
+    public static FusedLongStream of(LongStream source) {
+        return new FusedLongStream(source, FusedChain.Kind.LONG, null, 0, 0, 0);
+    }
+
+    public static FusedDoubleStream of(DoubleStream source) {
+        return new FusedDoubleStream(source, FusedChain.Kind.DOUBLE, null, 0, 0, 0);
+    }
+
+    public static <T> FusedStream<T> of(Stream<T> source) {
+        return new FusedStream<>(source, FusedChain.Kind.REF, null, 0, 0, 0, false);
+    }
+}
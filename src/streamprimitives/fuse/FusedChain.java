@@ -0,0 +1,187 @@
+package streamprimitives.fuse;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * State shared by the fused stream facades: the untouched source stream, its element kind,
+ * and one function from the source kind to the current kind that is the composition of every
+ * stage added so far ({@code null} while it is still the identity).
+ */
+abstract class FusedChain {
+
+    enum Kind {
+        INT("IntStream"), LONG("LongStream"), DOUBLE("DoubleStream"), REF("Stream");
+
+        final String streamName;
+
+        Kind(String streamName) {
+            this.streamName = streamName;
+        }
+    }
+
+    static final IntUnaryOperator INT_IDENTITY = IntUnaryOperator.identity();
+    static final LongUnaryOperator LONG_IDENTITY = LongUnaryOperator.identity();
+    static final DoubleUnaryOperator DOUBLE_IDENTITY = DoubleUnaryOperator.identity();
+    static final Function<Object, Object> IDENTITY = Function.identity();
+
+    final BaseStream<?, ?> source;
+    final Kind sourceKind;
+    final Object function;
+    final int fusedStages;
+    final int droppedStages;
+    final int boxingRoundTrips;
+
+    FusedChain(BaseStream<?, ?> source, Kind sourceKind, Object function,
+               int fusedStages, int droppedStages, int boxingRoundTrips) {
+        this.source = source;
+        this.sourceKind = sourceKind;
+        this.function = function;
+        this.fusedStages = fusedStages;
+        this.droppedStages = droppedStages;
+        this.boxingRoundTrips = boxingRoundTrips;
+    }
+
+    abstract Kind kind();
+
+    /**
+     * Number of {@code map}/{@code mapToX}/{@code boxed}/{@code asXStream} calls that were
+     * folded into the single stage this chain builds.
+     */
+    public int fusedStages() {
+        return fusedStages;
+    }
+
+    /**
+     * Number of stages that were recognised as identities and dropped.
+     */
+    public int droppedStages() {
+        return droppedStages;
+    }
+
+    /**
+     * Number of times the chain went from a primitive kind to {@code Stream} and back to a
+     * primitive kind, such as {@code intS.mapToObj(s -> s).mapToInt(s -> s)}. Fusing saves the
+     * extra stage but still allocates the boxes, so a non-zero count points at code to rewrite.
+     */
+    public int boxingRoundTrips() {
+        return boxingRoundTrips;
+    }
+
+    /**
+     * Describes the pipeline that will be built, for example
+     * {@code "IntStream -> 3 stages fused into mapToDouble -> DoubleStream"}.
+     */
+    public String explain() {
+        StringBuilder sb = new StringBuilder(sourceKind.streamName).append(" -> ");
+        if (function == null) {
+            sb.append("no stage");
+        } else {
+            sb.append(fusedStages).append(fusedStages == 1 ? " stage" : " stages")
+                    .append(" fused into ").append(stageName());
+        }
+        if (droppedStages > 0) {
+            sb.append(", ").append(droppedStages).append(" identity dropped");
+        }
+        if (boxingRoundTrips > 0) {
+            sb.append(", ").append(boxingRoundTrips).append(" boxing round-trip")
+                    .append(boxingRoundTrips == 1 ? "" : "s");
+        }
+        return sb.append(" -> ").append(kind().streamName).toString();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+    private String stageName() {
+        switch (kind()) {
+            case INT:
+                return sourceKind == Kind.INT ? "map" : "mapToInt";
+            case LONG:
+                return sourceKind == Kind.LONG ? "map" : "mapToLong";
+            case DOUBLE:
+                return sourceKind == Kind.DOUBLE ? "map" : "mapToDouble";
+            default:
+                return sourceKind == Kind.REF ? "map" : "mapToObj";
+        }
+    }
+
+    // building the single fused stage
+
+    @SuppressWarnings("unchecked")
+    IntStream buildInt() {
+        switch (sourceKind) {
+            case INT:
+                return function == null ? (IntStream) source : ((IntStream) source).map((IntUnaryOperator) function);
+            case LONG:
+                return ((LongStream) source).mapToInt((LongToIntFunction) function);
+            case DOUBLE:
+                return ((DoubleStream) source).mapToInt((DoubleToIntFunction) function);
+            default:
+                return ((Stream<Object>) source).mapToInt((ToIntFunction<Object>) function);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    LongStream buildLong() {
+        switch (sourceKind) {
+            case INT:
+                return ((IntStream) source).mapToLong((IntToLongFunction) function);
+            case LONG:
+                return function == null ? (LongStream) source : ((LongStream) source).map((LongUnaryOperator) function);
+            case DOUBLE:
+                return ((DoubleStream) source).mapToLong((DoubleToLongFunction) function);
+            default:
+                return ((Stream<Object>) source).mapToLong((ToLongFunction<Object>) function);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    DoubleStream buildDouble() {
+        switch (sourceKind) {
+            case INT:
+                return ((IntStream) source).mapToDouble((IntToDoubleFunction) function);
+            case LONG:
+                return ((LongStream) source).mapToDouble((LongToDoubleFunction) function);
+            case DOUBLE:
+                return function == null ? (DoubleStream) source : ((DoubleStream) source).map((DoubleUnaryOperator) function);
+            default:
+                return ((Stream<Object>) source).mapToDouble((ToDoubleFunction<Object>) function);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Stream<T> buildObj() {
+        switch (sourceKind) {
+            case INT:
+                return ((IntStream) source).mapToObj((IntFunction<T>) function);
+            case LONG:
+                return ((LongStream) source).mapToObj((LongFunction<T>) function);
+            case DOUBLE:
+                return ((DoubleStream) source).mapToObj((DoubleFunction<T>) function);
+            default:
+                return function == null ? (Stream<T>) source : ((Stream<Object>) source).map((Function<Object, T>) function);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package streamprimitives.fuse;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+
+/**
+ * A fused chain whose current elements are doubles; see {@link Fused}.
+ */
+public final class FusedDoubleStream extends FusedChain {
+
+    FusedDoubleStream(BaseStream<?, ?> source, Kind sourceKind, Object function,
+                      int fusedStages, int droppedStages, int boxingRoundTrips) {
+        super(source, sourceKind, function, fusedStages, droppedStages, boxingRoundTrips);
+    }
+
+    @Override
+    Kind kind() {
+        return Kind.DOUBLE;
+    }
+
+    /**
+     * Fuses {@code DoubleStream.map}; {@code DoubleUnaryOperator.identity()} is dropped.
+     */
+    public FusedDoubleStream map(DoubleUnaryOperator mapper) {
+        if (mapper == DOUBLE_IDENTITY) {
+            return new FusedDoubleStream(source, sourceKind, function, fusedStages, droppedStages + 1, boxingRoundTrips);
+        }
+        return new FusedDoubleStream(source, sourceKind, andThen(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public FusedIntStream mapToInt(DoubleToIntFunction mapper) {
+        return new FusedIntStream(source, sourceKind, andThenToInt(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public FusedLongStream mapToLong(DoubleToLongFunction mapper) {
+        return new FusedLongStream(source, sourceKind, andThenToLong(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public <U> FusedStream<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        return new FusedStream<>(source, sourceKind, andThenToObj(mapper), fusedStages + 1, droppedStages, boxingRoundTrips, true);
+    }
+
+    public FusedStream<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Builds the pipeline: the source with at most one {@code map}/{@code mapToDouble} stage.
+     */
+    public DoubleStream stream() {
+        return buildDouble();
+    }
+
+    // composition of the current source -> double function with a double -> X function
+
+    @SuppressWarnings("unchecked")
+    private Object andThen(DoubleUnaryOperator g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToDoubleFunction f = (IntToDoubleFunction) function;
+                return (IntToDoubleFunction) x -> g.applyAsDouble(f.applyAsDouble(x));
+            }
+            case LONG: {
+                LongToDoubleFunction f = (LongToDoubleFunction) function;
+                return (LongToDoubleFunction) x -> g.applyAsDouble(f.applyAsDouble(x));
+            }
+            case DOUBLE: {
+                DoubleUnaryOperator f = (DoubleUnaryOperator) function;
+                return (DoubleUnaryOperator) x -> g.applyAsDouble(f.applyAsDouble(x));
+            }
+            default: {
+                ToDoubleFunction<Object> f = (ToDoubleFunction<Object>) function;
+                return (ToDoubleFunction<Object>) x -> g.applyAsDouble(f.applyAsDouble(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToInt(DoubleToIntFunction g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToDoubleFunction f = (IntToDoubleFunction) function;
+                return (IntUnaryOperator) x -> g.applyAsInt(f.applyAsDouble(x));
+            }
+            case LONG: {
+                LongToDoubleFunction f = (LongToDoubleFunction) function;
+                return (LongToIntFunction) x -> g.applyAsInt(f.applyAsDouble(x));
+            }
+            case DOUBLE: {
+                DoubleUnaryOperator f = (DoubleUnaryOperator) function;
+                return (DoubleToIntFunction) x -> g.applyAsInt(f.applyAsDouble(x));
+            }
+            default: {
+                ToDoubleFunction<Object> f = (ToDoubleFunction<Object>) function;
+                return (ToIntFunction<Object>) x -> g.applyAsInt(f.applyAsDouble(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToLong(DoubleToLongFunction g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToDoubleFunction f = (IntToDoubleFunction) function;
+                return (IntToLongFunction) x -> g.applyAsLong(f.applyAsDouble(x));
+            }
+            case LONG: {
+                LongToDoubleFunction f = (LongToDoubleFunction) function;
+                return (LongUnaryOperator) x -> g.applyAsLong(f.applyAsDouble(x));
+            }
+            case DOUBLE: {
+                DoubleUnaryOperator f = (DoubleUnaryOperator) function;
+                return (DoubleToLongFunction) x -> g.applyAsLong(f.applyAsDouble(x));
+            }
+            default: {
+                ToDoubleFunction<Object> f = (ToDoubleFunction<Object>) function;
+                return (ToLongFunction<Object>) x -> g.applyAsLong(f.applyAsDouble(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToObj(DoubleFunction<?> g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToDoubleFunction f = (IntToDoubleFunction) function;
+                return (IntFunction<Object>) x -> g.apply(f.applyAsDouble(x));
+            }
+            case LONG: {
+                LongToDoubleFunction f = (LongToDoubleFunction) function;
+                return (LongFunction<Object>) x -> g.apply(f.applyAsDouble(x));
+            }
+            case DOUBLE: {
+                DoubleUnaryOperator f = (DoubleUnaryOperator) function;
+                return (DoubleFunction<Object>) x -> g.apply(f.applyAsDouble(x));
+            }
+            default: {
+                ToDoubleFunction<Object> f = (ToDoubleFunction<Object>) function;
+                return (Function<Object, Object>) x -> g.apply(f.applyAsDouble(x));
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package streamprimitives.fuse;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.BaseStream;
+import java.util.stream.IntStream;
+
+/**
+ * A fused chain whose current elements are ints; see {@link Fused}.
+ */
+public final class FusedIntStream extends FusedChain {
+
+    FusedIntStream(BaseStream<?, ?> source, Kind sourceKind, Object function,
+                   int fusedStages, int droppedStages, int boxingRoundTrips) {
+        super(source, sourceKind, function, fusedStages, droppedStages, boxingRoundTrips);
+    }
+
+    @Override
+    Kind kind() {
+        return Kind.INT;
+    }
+
+    /**
+     * Fuses {@code IntStream.map}; {@code IntUnaryOperator.identity()} is dropped.
+     */
+    public FusedIntStream map(IntUnaryOperator mapper) {
+        if (mapper == INT_IDENTITY) {
+            return new FusedIntStream(source, sourceKind, function, fusedStages, droppedStages + 1, boxingRoundTrips);
+        }
+        return new FusedIntStream(source, sourceKind, andThen(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public FusedLongStream mapToLong(IntToLongFunction mapper) {
+        return new FusedLongStream(source, sourceKind, andThenToLong(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public FusedDoubleStream mapToDouble(IntToDoubleFunction mapper) {
+        return new FusedDoubleStream(source, sourceKind, andThenToDouble(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public <U> FusedStream<U> mapToObj(IntFunction<? extends U> mapper) {
+        return new FusedStream<>(source, sourceKind, andThenToObj(mapper), fusedStages + 1, droppedStages, boxingRoundTrips, true);
+    }
+
+    public FusedLongStream asLongStream() {
+        return mapToLong(value -> value);
+    }
+
+    public FusedDoubleStream asDoubleStream() {
+        return mapToDouble(value -> value);
+    }
+
+    public FusedStream<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Builds the pipeline: the source with at most one {@code map}/{@code mapToInt} stage.
+     */
+    public IntStream stream() {
+        return buildInt();
+    }
+
+    // composition of the current source -> int function with an int -> X function
+
+    @SuppressWarnings("unchecked")
+    private Object andThen(IntUnaryOperator g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntUnaryOperator f = (IntUnaryOperator) function;
+                return (IntUnaryOperator) x -> g.applyAsInt(f.applyAsInt(x));
+            }
+            case LONG: {
+                LongToIntFunction f = (LongToIntFunction) function;
+                return (LongToIntFunction) x -> g.applyAsInt(f.applyAsInt(x));
+            }
+            case DOUBLE: {
+                DoubleToIntFunction f = (DoubleToIntFunction) function;
+                return (DoubleToIntFunction) x -> g.applyAsInt(f.applyAsInt(x));
+            }
+            default: {
+                ToIntFunction<Object> f = (ToIntFunction<Object>) function;
+                return (ToIntFunction<Object>) x -> g.applyAsInt(f.applyAsInt(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToLong(IntToLongFunction g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntUnaryOperator f = (IntUnaryOperator) function;
+                return (IntToLongFunction) x -> g.applyAsLong(f.applyAsInt(x));
+            }
+            case LONG: {
+                LongToIntFunction f = (LongToIntFunction) function;
+                return (LongUnaryOperator) x -> g.applyAsLong(f.applyAsInt(x));
+            }
+            case DOUBLE: {
+                DoubleToIntFunction f = (DoubleToIntFunction) function;
+                return (DoubleToLongFunction) x -> g.applyAsLong(f.applyAsInt(x));
+            }
+            default: {
+                ToIntFunction<Object> f = (ToIntFunction<Object>) function;
+                return (ToLongFunction<Object>) x -> g.applyAsLong(f.applyAsInt(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToDouble(IntToDoubleFunction g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntUnaryOperator f = (IntUnaryOperator) function;
+                return (IntToDoubleFunction) x -> g.applyAsDouble(f.applyAsInt(x));
+            }
+            case LONG: {
+                LongToIntFunction f = (LongToIntFunction) function;
+                return (LongToDoubleFunction) x -> g.applyAsDouble(f.applyAsInt(x));
+            }
+            case DOUBLE: {
+                DoubleToIntFunction f = (DoubleToIntFunction) function;
+                return (DoubleUnaryOperator) x -> g.applyAsDouble(f.applyAsInt(x));
+            }
+            default: {
+                ToIntFunction<Object> f = (ToIntFunction<Object>) function;
+                return (ToDoubleFunction<Object>) x -> g.applyAsDouble(f.applyAsInt(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToObj(IntFunction<?> g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntUnaryOperator f = (IntUnaryOperator) function;
+                return (IntFunction<Object>) x -> g.apply(f.applyAsInt(x));
+            }
+            case LONG: {
+                LongToIntFunction f = (LongToIntFunction) function;
+                return (LongFunction<Object>) x -> g.apply(f.applyAsInt(x));
+            }
+            case DOUBLE: {
+                DoubleToIntFunction f = (DoubleToIntFunction) function;
+                return (DoubleFunction<Object>) x -> g.apply(f.applyAsInt(x));
+            }
+            default: {
+                ToIntFunction<Object> f = (ToIntFunction<Object>) function;
+                return (Function<Object, Object>) x -> g.apply(f.applyAsInt(x));
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package streamprimitives.fuse;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.BaseStream;
+import java.util.stream.LongStream;
+
+/**
+ * A fused chain whose current elements are longs; see {@link Fused}.
+ */
+public final class FusedLongStream extends FusedChain {
+
+    FusedLongStream(BaseStream<?, ?> source, Kind sourceKind, Object function,
+                    int fusedStages, int droppedStages, int boxingRoundTrips) {
+        super(source, sourceKind, function, fusedStages, droppedStages, boxingRoundTrips);
+    }
+
+    @Override
+    Kind kind() {
+        return Kind.LONG;
+    }
+
+    /**
+     * Fuses {@code LongStream.map}; {@code LongUnaryOperator.identity()} is dropped.
+     */
+    public FusedLongStream map(LongUnaryOperator mapper) {
+        if (mapper == LONG_IDENTITY) {
+            return new FusedLongStream(source, sourceKind, function, fusedStages, droppedStages + 1, boxingRoundTrips);
+        }
+        return new FusedLongStream(source, sourceKind, andThen(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public FusedIntStream mapToInt(LongToIntFunction mapper) {
+        return new FusedIntStream(source, sourceKind, andThenToInt(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public FusedDoubleStream mapToDouble(LongToDoubleFunction mapper) {
+        return new FusedDoubleStream(source, sourceKind, andThenToDouble(mapper), fusedStages + 1, droppedStages, boxingRoundTrips);
+    }
+
+    public <U> FusedStream<U> mapToObj(LongFunction<? extends U> mapper) {
+        return new FusedStream<>(source, sourceKind, andThenToObj(mapper), fusedStages + 1, droppedStages, boxingRoundTrips, true);
+    }
+
+    public FusedDoubleStream asDoubleStream() {
+        return mapToDouble(value -> value);
+    }
+
+    public FusedStream<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Builds the pipeline: the source with at most one {@code map}/{@code mapToLong} stage.
+     */
+    public LongStream stream() {
+        return buildLong();
+    }
+
+    // composition of the current source -> long function with a long -> X function
+
+    @SuppressWarnings("unchecked")
+    private Object andThen(LongUnaryOperator g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToLongFunction f = (IntToLongFunction) function;
+                return (IntToLongFunction) x -> g.applyAsLong(f.applyAsLong(x));
+            }
+            case LONG: {
+                LongUnaryOperator f = (LongUnaryOperator) function;
+                return (LongUnaryOperator) x -> g.applyAsLong(f.applyAsLong(x));
+            }
+            case DOUBLE: {
+                DoubleToLongFunction f = (DoubleToLongFunction) function;
+                return (DoubleToLongFunction) x -> g.applyAsLong(f.applyAsLong(x));
+            }
+            default: {
+                ToLongFunction<Object> f = (ToLongFunction<Object>) function;
+                return (ToLongFunction<Object>) x -> g.applyAsLong(f.applyAsLong(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToInt(LongToIntFunction g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToLongFunction f = (IntToLongFunction) function;
+                return (IntUnaryOperator) x -> g.applyAsInt(f.applyAsLong(x));
+            }
+            case LONG: {
+                LongUnaryOperator f = (LongUnaryOperator) function;
+                return (LongToIntFunction) x -> g.applyAsInt(f.applyAsLong(x));
+            }
+            case DOUBLE: {
+                DoubleToLongFunction f = (DoubleToLongFunction) function;
+                return (DoubleToIntFunction) x -> g.applyAsInt(f.applyAsLong(x));
+            }
+            default: {
+                ToLongFunction<Object> f = (ToLongFunction<Object>) function;
+                return (ToIntFunction<Object>) x -> g.applyAsInt(f.applyAsLong(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToDouble(LongToDoubleFunction g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToLongFunction f = (IntToLongFunction) function;
+                return (IntToDoubleFunction) x -> g.applyAsDouble(f.applyAsLong(x));
+            }
+            case LONG: {
+                LongUnaryOperator f = (LongUnaryOperator) function;
+                return (LongToDoubleFunction) x -> g.applyAsDouble(f.applyAsLong(x));
+            }
+            case DOUBLE: {
+                DoubleToLongFunction f = (DoubleToLongFunction) function;
+                return (DoubleUnaryOperator) x -> g.applyAsDouble(f.applyAsLong(x));
+            }
+            default: {
+                ToLongFunction<Object> f = (ToLongFunction<Object>) function;
+                return (ToDoubleFunction<Object>) x -> g.applyAsDouble(f.applyAsLong(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToObj(LongFunction<?> g) {
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntToLongFunction f = (IntToLongFunction) function;
+                return (IntFunction<Object>) x -> g.apply(f.applyAsLong(x));
+            }
+            case LONG: {
+                LongUnaryOperator f = (LongUnaryOperator) function;
+                return (LongFunction<Object>) x -> g.apply(f.applyAsLong(x));
+            }
+            case DOUBLE: {
+                DoubleToLongFunction f = (DoubleToLongFunction) function;
+                return (DoubleFunction<Object>) x -> g.apply(f.applyAsLong(x));
+            }
+            default: {
+                ToLongFunction<Object> f = (ToLongFunction<Object>) function;
+                return (Function<Object, Object>) x -> g.apply(f.applyAsLong(x));
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package streamprimitives.fuse;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+
+/**
+ * A fused chain whose current elements are objects; see {@link Fused}.
+ * <p>
+ * Remembers whether its elements came from a primitive kind ({@code mapToObj}, {@code boxed}),
+ * so that converting back with {@code mapToInt}/{@code mapToLong}/{@code mapToDouble} is
+ * reported as a {@linkplain #boxingRoundTrips() boxing round-trip}.
+ *
+ * @param <T> the type of the current elements
+ */
+public final class FusedStream<T> extends FusedChain {
+
+    private final boolean fromPrimitive;
+
+    FusedStream(BaseStream<?, ?> source, Kind sourceKind, Object function,
+                int fusedStages, int droppedStages, int boxingRoundTrips, boolean fromPrimitive) {
+        super(source, sourceKind, function, fusedStages, droppedStages, boxingRoundTrips);
+        this.fromPrimitive = fromPrimitive;
+    }
+
+    @Override
+    Kind kind() {
+        return Kind.REF;
+    }
+
+    /**
+     * Fuses {@code Stream.map}; {@code Function.identity()} is dropped.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> FusedStream<R> map(Function<? super T, ? extends R> mapper) {
+        if (mapper == IDENTITY) {
+            return (FusedStream<R>) new FusedStream<T>(source, sourceKind, function,
+                    fusedStages, droppedStages + 1, boxingRoundTrips, fromPrimitive);
+        }
+        return new FusedStream<>(source, sourceKind, andThen(mapper),
+                fusedStages + 1, droppedStages, boxingRoundTrips, fromPrimitive);
+    }
+
+    public FusedIntStream mapToInt(ToIntFunction<? super T> mapper) {
+        return new FusedIntStream(source, sourceKind, andThenToInt(mapper),
+                fusedStages + 1, droppedStages, roundTrips());
+    }
+
+    public FusedLongStream mapToLong(ToLongFunction<? super T> mapper) {
+        return new FusedLongStream(source, sourceKind, andThenToLong(mapper),
+                fusedStages + 1, droppedStages, roundTrips());
+    }
+
+    public FusedDoubleStream mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return new FusedDoubleStream(source, sourceKind, andThenToDouble(mapper),
+                fusedStages + 1, droppedStages, roundTrips());
+    }
+
+    /**
+     * Builds the pipeline: the source with at most one {@code map}/{@code mapToObj} stage.
+     */
+    public Stream<T> stream() {
+        return buildObj();
+    }
+
+    private int roundTrips() {
+        return fromPrimitive ? boxingRoundTrips + 1 : boxingRoundTrips;
+    }
+
+    // composition of the current source -> object function with an object -> X function
+
+    @SuppressWarnings("unchecked")
+    private Object andThen(Function<? super T, ?> mapper) {
+        Function<Object, ?> g = (Function<Object, ?>) mapper;
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntFunction<Object> f = (IntFunction<Object>) function;
+                return (IntFunction<Object>) x -> g.apply(f.apply(x));
+            }
+            case LONG: {
+                LongFunction<Object> f = (LongFunction<Object>) function;
+                return (LongFunction<Object>) x -> g.apply(f.apply(x));
+            }
+            case DOUBLE: {
+                DoubleFunction<Object> f = (DoubleFunction<Object>) function;
+                return (DoubleFunction<Object>) x -> g.apply(f.apply(x));
+            }
+            default: {
+                Function<Object, Object> f = (Function<Object, Object>) function;
+                return (Function<Object, Object>) x -> g.apply(f.apply(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToInt(ToIntFunction<? super T> mapper) {
+        ToIntFunction<Object> g = (ToIntFunction<Object>) mapper;
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntFunction<Object> f = (IntFunction<Object>) function;
+                return (IntUnaryOperator) x -> g.applyAsInt(f.apply(x));
+            }
+            case LONG: {
+                LongFunction<Object> f = (LongFunction<Object>) function;
+                return (LongToIntFunction) x -> g.applyAsInt(f.apply(x));
+            }
+            case DOUBLE: {
+                DoubleFunction<Object> f = (DoubleFunction<Object>) function;
+                return (DoubleToIntFunction) x -> g.applyAsInt(f.apply(x));
+            }
+            default: {
+                Function<Object, Object> f = (Function<Object, Object>) function;
+                return (ToIntFunction<Object>) x -> g.applyAsInt(f.apply(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToLong(ToLongFunction<? super T> mapper) {
+        ToLongFunction<Object> g = (ToLongFunction<Object>) mapper;
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntFunction<Object> f = (IntFunction<Object>) function;
+                return (IntToLongFunction) x -> g.applyAsLong(f.apply(x));
+            }
+            case LONG: {
+                LongFunction<Object> f = (LongFunction<Object>) function;
+                return (LongUnaryOperator) x -> g.applyAsLong(f.apply(x));
+            }
+            case DOUBLE: {
+                DoubleFunction<Object> f = (DoubleFunction<Object>) function;
+                return (DoubleToLongFunction) x -> g.applyAsLong(f.apply(x));
+            }
+            default: {
+                Function<Object, Object> f = (Function<Object, Object>) function;
+                return (ToLongFunction<Object>) x -> g.applyAsLong(f.apply(x));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object andThenToDouble(ToDoubleFunction<? super T> mapper) {
+        ToDoubleFunction<Object> g = (ToDoubleFunction<Object>) mapper;
+        if (function == null) {
+            return g;
+        }
+        switch (sourceKind) {
+            case INT: {
+                IntFunction<Object> f = (IntFunction<Object>) function;
+                return (IntToDoubleFunction) x -> g.applyAsDouble(f.apply(x));
+            }
+            case LONG: {
+                LongFunction<Object> f = (LongFunction<Object>) function;
+                return (LongToDoubleFunction) x -> g.applyAsDouble(f.apply(x));
+            }
+            case DOUBLE: {
+                DoubleFunction<Object> f = (DoubleFunction<Object>) function;
+                return (DoubleUnaryOperator) x -> g.applyAsDouble(f.apply(x));
+            }
+            default: {
+                Function<Object, Object> f = (Function<Object, Object>) function;
+                return (ToDoubleFunction<Object>) x -> g.applyAsDouble(f.apply(x));
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package streamprimitives.io;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffer and channel handling shared by the text and binary sinks: elements are encoded into
+ * one reusable buffer, which is written to the channel only when it is full or flushed.
+ */
+abstract class ChannelSink implements Flushable, Closeable {
+
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final boolean stdout;
+    final ByteBuffer buffer;
+
+    ChannelSink(WritableByteChannel channel, boolean stdout, ByteBuffer buffer) {
+        this.channel = channel;
+        this.stdout = stdout;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Standard output as a channel. Never closed by the sinks, so {@code System.out} keeps
+     * working afterwards.
+     */
+    static WritableByteChannel stdoutChannel() {
+        return StdoutHolder.CHANNEL;
+    }
+
+    static FileChannel openForWriting(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Makes room for {@code bytes} more bytes, writing the buffer out if needed.
+     */
+    final void makeRoom(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /**
+     * {@link #makeRoom} for the consumer methods, which cannot throw {@code IOException}.
+     */
+    final void reserve(int bytes) {
+        if (buffer.remaining() < bytes) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        if (buffer.hasRemaining()) {
+            if (stdout) {
+                // keep the order of anything already printed through System.out
+                System.out.flush();
+            }
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the buffer and closes the channel, unless it is standard output.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (!stdout) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Runs a terminal operation that feeds this sink, then flushes, turning the
+     * {@link UncheckedIOException} thrown from inside the consumer back into an
+     * {@link IOException}.
+     */
+    final void drain(Runnable terminal) throws IOException {
+        try {
+            terminal.run();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        flush();
+    }
+
+    private static final class StdoutHolder {
+        static final WritableByteChannel CHANNEL = new FileOutputStream(FileDescriptor.out).getChannel();
+    }
+}
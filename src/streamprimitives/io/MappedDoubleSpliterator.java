@@ -0,0 +1,71 @@
+package streamprimitives.io;
+
+import java.nio.DoubleBuffer;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Double counterpart of {@link MappedIntSpliterator}.
+ */
+final class MappedDoubleSpliterator implements Spliterator.OfDouble {
+
+    private final DoubleBuffer[] segments;
+    private final int shift;
+    private long index;
+    private final long fence;
+
+    MappedDoubleSpliterator(DoubleBuffer[] segments, int shift, long index, long fence) {
+        this.segments = segments;
+        this.shift = shift;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index < fence) {
+            long i = index++;
+            action.accept(segments[(int) (i >>> shift)].get((int) (i & ((1L << shift) - 1))));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        long i = index;
+        long hi = fence;
+        index = hi;
+        long mask = (1L << shift) - 1;
+        while (i < hi) {
+            DoubleBuffer segment = segments[(int) (i >>> shift)];
+            int from = (int) (i & mask);
+            int to = (int) Math.min(segment.limit(), from + (hi - i));
+            for (int j = from; j < to; j++) {
+                action.accept(segment.get(j));
+            }
+            i += to - from;
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new MappedDoubleSpliterator(segments, shift, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
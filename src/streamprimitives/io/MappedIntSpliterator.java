@@ -0,0 +1,73 @@
+package streamprimitives.io;
+
+import java.nio.IntBuffer;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator over the ints of a memory-mapped file. The file is mapped as a sequence of
+ * equally sized segments; element {@code i} lives in segment {@code i >>> shift}. Only
+ * absolute reads are used, so split-off spliterators can share the buffers across threads.
+ */
+final class MappedIntSpliterator implements Spliterator.OfInt {
+
+    private final IntBuffer[] segments;
+    private final int shift;
+    private long index;
+    private final long fence;
+
+    MappedIntSpliterator(IntBuffer[] segments, int shift, long index, long fence) {
+        this.segments = segments;
+        this.shift = shift;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index < fence) {
+            long i = index++;
+            action.accept(segments[(int) (i >>> shift)].get((int) (i & ((1L << shift) - 1))));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        long i = index;
+        long hi = fence;
+        index = hi;
+        long mask = (1L << shift) - 1;
+        while (i < hi) {
+            IntBuffer segment = segments[(int) (i >>> shift)];
+            int from = (int) (i & mask);
+            int to = (int) Math.min(segment.limit(), from + (hi - i));
+            for (int j = from; j < to; j++) {
+                action.accept(segment.get(j));
+            }
+            i += to - from;
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new MappedIntSpliterator(segments, shift, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
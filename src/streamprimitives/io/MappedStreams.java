@@ -0,0 +1,88 @@
+package streamprimitives.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Primitive streams over memory-mapped files of raw little-endian ints, longs or doubles.
+ * <p>
+ * Where {@code IntStream.of(...)} or {@code DoubleStream.of(1.0, 1.1, 1.2)} need the data on the
+ * heap, these sources read straight from the page cache through {@link FileChannel#map} and
+ * typed buffer views, so {@code sum()}/{@code average()} over a multi-GB file neither copies
+ * it nor adds heap pressure:
+ * <pre>
+ * double mean = MappedStreams.doubles(path).parallel().average().orElse(Double.NaN);
+ * </pre>
+ * Files larger than 2 GB are mapped as several 1 GB segments. The spliterators are sized and
+ * split in O(1) for parallel scans. The mapping stays valid after the call returns and is
+ * released when the stream becomes unreachable; the file must not be truncated or modified
+ * while a stream over it is in use.
+ */
+public final class MappedStreams {
+
+    private static final int SEGMENT_SHIFT = 30;
+
+    private MappedStreams() {
+    }
+
+    public static IntStream ints(Path file) throws IOException {
+        ByteBuffer[] mapped = map(file, Integer.BYTES);
+        IntBuffer[] segments = new IntBuffer[mapped.length];
+        long count = 0;
+        for (int i = 0; i < mapped.length; i++) {
+            segments[i] = mapped[i].asIntBuffer();
+            count += segments[i].limit();
+        }
+        return StreamSupport.intStream(new MappedIntSpliterator(segments, SEGMENT_SHIFT - 2, 0L, count), false);
+    }
+
+    public static LongStream longs(Path file) throws IOException {
+        ByteBuffer[] mapped = map(file, Long.BYTES);
+        LongBuffer[] segments = new LongBuffer[mapped.length];
+        long count = 0;
+        for (int i = 0; i < mapped.length; i++) {
+            segments[i] = mapped[i].asLongBuffer();
+            count += segments[i].limit();
+        }
+        return StreamSupport.longStream(new MappedLongSpliterator(segments, SEGMENT_SHIFT - 3, 0L, count), false);
+    }
+
+    public static DoubleStream doubles(Path file) throws IOException {
+        ByteBuffer[] mapped = map(file, Double.BYTES);
+        DoubleBuffer[] segments = new DoubleBuffer[mapped.length];
+        long count = 0;
+        for (int i = 0; i < mapped.length; i++) {
+            segments[i] = mapped[i].asDoubleBuffer();
+            count += segments[i].limit();
+        }
+        return StreamSupport.doubleStream(new MappedDoubleSpliterator(segments, SEGMENT_SHIFT - 3, 0L, count), false);
+    }
+
+    private static ByteBuffer[] map(Path file, int elementBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % elementBytes != 0) {
+                throw new IOException(file + ": size " + size + " is not a multiple of " + elementBytes + " bytes");
+            }
+            long segmentBytes = 1L << SEGMENT_SHIFT;
+            ByteBuffer[] segments = new ByteBuffer[(int) ((size + segmentBytes - 1) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentBytes, size - position))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return segments;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package streamprimitives.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Writes primitives as raw little-endian values to a channel, the format
+ * {@link MappedStreams} reads back.
+ * <p>
+ * The buffer is direct, so the channel writes it without copying it into a temporary native
+ * buffer first, and arrays are transferred in bulk through typed buffer views. Handing a
+ * pipeline's output to another process or to a later {@code MappedStreams.doubles(path)} scan
+ * costs no formatting and no parsing:
+ * <pre>
+ * try (PrimitiveBinarySink sink = PrimitiveBinarySink.toFile(path)) {
+ *     sink.writeAll(DoubleStream.generate(Math::random).limit(1_000_000));
+ * }
+ * </pre>
+ * Like {@link PrimitiveTextSink}, it is not thread-safe and the consumer methods throw
+ * {@link java.io.UncheckedIOException}.
+ */
+public final class PrimitiveBinarySink extends ChannelSink implements IntConsumer, LongConsumer, DoubleConsumer {
+
+    public PrimitiveBinarySink(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public PrimitiveBinarySink(WritableByteChannel channel, int bufferSize) {
+        this(Objects.requireNonNull(channel), false, bufferSize);
+    }
+
+    private PrimitiveBinarySink(WritableByteChannel channel, boolean stdout, int bufferSize) {
+        super(channel, stdout, ByteBuffer.allocateDirect(checkBufferSize(bufferSize)).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    private static int checkBufferSize(int bufferSize) {
+        if (bufferSize < Long.BYTES) {
+            throw new IllegalArgumentException("Buffer too small: " + bufferSize);
+        }
+        return bufferSize;
+    }
+
+    /**
+     * A sink on standard output, for piping into another process; closing it flushes but leaves
+     * standard output open.
+     */
+    public static PrimitiveBinarySink stdout() {
+        return new PrimitiveBinarySink(stdoutChannel(), true, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * A sink that creates or truncates the file.
+     */
+    public static PrimitiveBinarySink toFile(Path file) throws IOException {
+        return new PrimitiveBinarySink(openForWriting(file));
+    }
+
+    /**
+     * Writes every element in encounter order and flushes; the sink stays open.
+     */
+    public void writeAll(IntStream stream) throws IOException {
+        drain(() -> stream.forEachOrdered(this));
+    }
+
+    public void writeAll(LongStream stream) throws IOException {
+        drain(() -> stream.forEachOrdered(this));
+    }
+
+    public void writeAll(DoubleStream stream) throws IOException {
+        drain(() -> stream.forEachOrdered(this));
+    }
+
+    public void write(int[] values, int from, int to) throws IOException {
+        checkRange(values.length, from, to);
+        while (from < to) {
+            makeRoom(Integer.BYTES);
+            int n = Math.min(to - from, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, from, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            from += n;
+        }
+    }
+
+    public void write(long[] values, int from, int to) throws IOException {
+        checkRange(values.length, from, to);
+        while (from < to) {
+            makeRoom(Long.BYTES);
+            int n = Math.min(to - from, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, from, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            from += n;
+        }
+    }
+
+    public void write(double[] values, int from, int to) throws IOException {
+        checkRange(values.length, from, to);
+        while (from < to) {
+            makeRoom(Double.BYTES);
+            int n = Math.min(to - from, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, from, n);
+            buffer.position(buffer.position() + n * Double.BYTES);
+            from += n;
+        }
+    }
+
+    @Override
+    public void accept(int value) {
+        reserve(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    @Override
+    public void accept(long value) {
+        reserve(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    @Override
+    public void accept(double value) {
+        reserve(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0) {
+            throw new ArrayIndexOutOfBoundsException(from);
+        }
+        if (to > length) {
+            throw new ArrayIndexOutOfBoundsException(to);
+        }
+    }
+}
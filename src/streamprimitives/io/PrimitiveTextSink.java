@@ -0,0 +1,171 @@
+package streamprimitives.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Writes primitives as text, one per line, to a channel; the buffered replacement for
+ * {@code forEach(System.out::println)}.
+ * <p>
+ * {@code println} takes the {@code PrintStream} lock, builds a {@code String}, encodes it and
+ * flushes for every element. This sink formats ints and longs straight into a reusable byte
+ * buffer, formats doubles through a reused {@code StringBuilder} (the same digits as
+ * {@code Double.toString}) and writes to the channel only when 64 KB have accumulated:
+ * <pre>
+ * PrimitiveTextSink.printAll(random.limit(3));        // instead of random.limit(3).forEach(System.out::println)
+ *
+ * try (PrimitiveTextSink sink = PrimitiveTextSink.toFile(path)) {
+ *     sink.writeAll(IntStream.rangeClosed(1, 1_000_000));
+ * }
+ * </pre>
+ * The output is byte-for-byte what {@code println} would print with a single-byte charset.
+ * A sink is not thread-safe; {@code writeAll} feeds it with {@code forEachOrdered}, which keeps
+ * the order of parallel streams. Write errors inside the consumer methods are thrown as
+ * {@link java.io.UncheckedIOException}.
+ */
+public final class PrimitiveTextSink extends ChannelSink implements IntConsumer, LongConsumer, DoubleConsumer {
+
+    // "-9223372036854775808" and the longest Double.toString output both fit
+    private static final int MAX_FORMATTED = 32;
+
+    private final byte[] bytes;
+    private final byte[] separator;
+    private final byte[] digits = new byte[20];
+    private final StringBuilder scratch = new StringBuilder(MAX_FORMATTED);
+
+    public PrimitiveTextSink(WritableByteChannel channel) {
+        this(channel, System.lineSeparator(), DEFAULT_BUFFER_SIZE);
+    }
+
+    public PrimitiveTextSink(WritableByteChannel channel, String separator, int bufferSize) {
+        this(Objects.requireNonNull(channel), false, separator, bufferSize);
+    }
+
+    private PrimitiveTextSink(WritableByteChannel channel, boolean stdout, String separator, int bufferSize) {
+        super(channel, stdout, ByteBuffer.allocate(checkBufferSize(bufferSize, separator)));
+        this.bytes = buffer.array();
+        this.separator = separator.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static int checkBufferSize(int bufferSize, String separator) {
+        if (bufferSize < MAX_FORMATTED + separator.length()) {
+            throw new IllegalArgumentException("Buffer too small: " + bufferSize);
+        }
+        return bufferSize;
+    }
+
+    /**
+     * A sink on standard output; closing it flushes but leaves standard output open.
+     */
+    public static PrimitiveTextSink stdout() {
+        return new PrimitiveTextSink(stdoutChannel(), true, System.lineSeparator(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * A sink that creates or truncates the file.
+     */
+    public static PrimitiveTextSink toFile(Path file) throws IOException {
+        return new PrimitiveTextSink(openForWriting(file));
+    }
+
+    public static void printAll(IntStream stream) throws IOException {
+        stdout().writeAll(stream);
+    }
+
+    public static void printAll(LongStream stream) throws IOException {
+        stdout().writeAll(stream);
+    }
+
+    public static void printAll(DoubleStream stream) throws IOException {
+        stdout().writeAll(stream);
+    }
+
+    /**
+     * Writes every element in encounter order and flushes; the sink stays open.
+     */
+    public void writeAll(IntStream stream) throws IOException {
+        drain(() -> stream.forEachOrdered(this));
+    }
+
+    public void writeAll(LongStream stream) throws IOException {
+        drain(() -> stream.forEachOrdered(this));
+    }
+
+    public void writeAll(DoubleStream stream) throws IOException {
+        drain(() -> stream.forEachOrdered(this));
+    }
+
+    @Override
+    public void accept(int value) {
+        reserve(MAX_FORMATTED + separator.length);
+        int i = digits.length;
+        // work on the non-positive value so that Integer.MIN_VALUE needs no special case
+        int q = value < 0 ? value : -value;
+        do {
+            digits[--i] = (byte) ('0' - q % 10);
+            q /= 10;
+        } while (q != 0);
+        put(value < 0, i);
+    }
+
+    @Override
+    public void accept(long value) {
+        reserve(MAX_FORMATTED + separator.length);
+        int i = digits.length;
+        long q = value < 0 ? value : -value;
+        while (q < Integer.MIN_VALUE) {
+            digits[--i] = (byte) ('0' - q % 10);
+            q /= 10;
+        }
+        int r = (int) q;
+        do {
+            digits[--i] = (byte) ('0' - r % 10);
+            r /= 10;
+        } while (r != 0);
+        put(value < 0, i);
+    }
+
+    @Override
+    public void accept(double value) {
+        reserve(MAX_FORMATTED + separator.length);
+        scratch.setLength(0);
+        scratch.append(value);
+        int p = buffer.position();
+        for (int i = 0, n = scratch.length(); i < n; i++) {
+            bytes[p++] = (byte) scratch.charAt(i);
+        }
+        buffer.position(p);
+        putSeparator();
+    }
+
+    private void put(boolean negative, int from) {
+        int p = buffer.position();
+        if (negative) {
+            bytes[p++] = '-';
+        }
+        int length = digits.length - from;
+        System.arraycopy(digits, from, bytes, p, length);
+        buffer.position(p + length);
+        putSeparator();
+    }
+
+    private void putSeparator() {
+        if (separator.length == 1) {
+            int p = buffer.position();
+            bytes[p] = separator[0];
+            buffer.position(p + 1);
+        } else {
+            buffer.put(separator);
+        }
+    }
+}
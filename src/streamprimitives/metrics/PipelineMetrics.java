@@ -0,0 +1,558 @@
+package streamprimitives.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Opt-in per-stage instrumentation of primitive stream pipelines.
+ * <p>
+ * A stage such as {@code objS.mapToInt(s -> s.length())} gives no hint of how many elements
+ * went through it, how long the function took or whether it boxed. Wrapping the function
+ * records exactly that, under a pipeline and a stage name:
+ * <pre>
+ * PipelineMetrics metrics = PipelineMetrics.of("lengths");
+ * double avg = metrics.terminalAsDouble("average", () -&gt; objS
+ *         .mapToInt(metrics.objToInt("length", s -&gt; s.length()))
+ *         .mapToDouble(metrics.intToDouble("widen", s -&gt; s))
+ *         .average().orElse(0));
+ * </pre>
+ * Metrics are enabled with {@code -Dstreamprimitives.metrics=true}. Otherwise every wrapper
+ * returns the function it was given and {@code terminal*} just runs the operation; the check is
+ * a {@code static final} constant the JIT folds away, so instrumented pipelines can stay in
+ * production code.
+ * <p>
+ * When enabled, each stage counts its calls, times about one call in
+ * {@code -Dstreamprimitives.metrics.sampleInterval} (a power of two, default 64), counts the
+ * primitives boxed by {@code xToObj} stages and unboxed by {@code objToX} stages, and counts the
+ * elements of the streams returned by flat-map stages. Each stage is registered as a
+ * {@link StageMetricsMXBean}. Every terminal run commits a {@code streamprimitives.PipelineRun}
+ * JFR event, and every stage is reported in a periodic
+ * {@code streamprimitives.StageStatistics} event. Stages with the same name share counters;
+ * {@code of} returns the same instance for the same pipeline name.
+ */
+public final class PipelineMetrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("streamprimitives.metrics");
+
+    private static final int SAMPLE_INTERVAL = Integer.getInteger("streamprimitives.metrics.sampleInterval", 64);
+
+    private static final ConcurrentHashMap<String, PipelineMetrics> PIPELINES = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            if (SAMPLE_INTERVAL <= 0 || Integer.bitCount(SAMPLE_INTERVAL) != 1) {
+                throw new IllegalArgumentException("Sample interval must be a power of two: " + SAMPLE_INTERVAL);
+            }
+            Jfr.registerPeriodicEvent();
+        }
+    }
+
+    private final String name;
+    private final ConcurrentHashMap<String, StageMetrics> stages = new ConcurrentHashMap<>();
+
+    private PipelineMetrics(String name) {
+        this.name = name;
+    }
+
+    public static PipelineMetrics of(String pipeline) {
+        if (!ENABLED) {
+            return new PipelineMetrics(pipeline);
+        }
+        return PIPELINES.computeIfAbsent(pipeline, PipelineMetrics::new);
+    }
+
+    /**
+     * All pipelines created while metrics are enabled.
+     */
+    public static Collection<PipelineMetrics> pipelines() {
+        return Collections.unmodifiableCollection(PIPELINES.values());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Collection<StageMetrics> stages() {
+        return Collections.unmodifiableCollection(stages.values());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(name);
+        for (StageMetrics stage : stages.values()) {
+            sb.append(System.lineSeparator()).append("  ").append(stage);
+        }
+        return sb.toString();
+    }
+
+    // IntStream stages
+
+    /**
+     * Wraps the function of an {@code IntStream.map} stage; returns {@code function} itself
+     * when metrics are disabled. The other stage wrappers below work the same way.
+     */
+    public IntUnaryOperator intMap(String stage, IntUnaryOperator function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            int result = function.applyAsInt(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public IntToLongFunction intToLong(String stage, IntToLongFunction function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            long result = function.applyAsLong(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public IntToDoubleFunction intToDouble(String stage, IntToDoubleFunction function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            double result = function.applyAsDouble(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public <R> IntFunction<R> intToObj(String stage, IntFunction<R> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            R result = function.apply(value);
+            metrics.end(start);
+            metrics.boxed(result);
+            return result;
+        };
+    }
+
+    // LongStream stages
+
+    public LongToIntFunction longToInt(String stage, LongToIntFunction function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            int result = function.applyAsInt(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public LongUnaryOperator longMap(String stage, LongUnaryOperator function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            long result = function.applyAsLong(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public LongToDoubleFunction longToDouble(String stage, LongToDoubleFunction function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            double result = function.applyAsDouble(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public <R> LongFunction<R> longToObj(String stage, LongFunction<R> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            R result = function.apply(value);
+            metrics.end(start);
+            metrics.boxed(result);
+            return result;
+        };
+    }
+
+    // DoubleStream stages
+
+    public DoubleToIntFunction doubleToInt(String stage, DoubleToIntFunction function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            int result = function.applyAsInt(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public DoubleToLongFunction doubleToLong(String stage, DoubleToLongFunction function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            long result = function.applyAsLong(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public DoubleUnaryOperator doubleMap(String stage, DoubleUnaryOperator function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            double result = function.applyAsDouble(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public <R> DoubleFunction<R> doubleToObj(String stage, DoubleFunction<R> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            R result = function.apply(value);
+            metrics.end(start);
+            metrics.boxed(result);
+            return result;
+        };
+    }
+
+    // Stream stages
+
+    public <T> ToIntFunction<T> objToInt(String stage, ToIntFunction<T> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            metrics.unboxed(value);
+            long start = metrics.begin();
+            int result = function.applyAsInt(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public <T> ToLongFunction<T> objToLong(String stage, ToLongFunction<T> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            metrics.unboxed(value);
+            long start = metrics.begin();
+            long result = function.applyAsLong(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public <T> ToDoubleFunction<T> objToDouble(String stage, ToDoubleFunction<T> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            metrics.unboxed(value);
+            long start = metrics.begin();
+            double result = function.applyAsDouble(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    public <T, R> Function<T, R> objMap(String stage, Function<T, R> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            R result = function.apply(value);
+            metrics.end(start);
+            return result;
+        };
+    }
+
+    // flatMap stages
+
+    /**
+     * Wraps the function of a {@code flatMapToInt} stage. Each call and each element of the
+     * returned streams is counted; the timing covers the call that builds the inner stream, not
+     * its traversal.
+     */
+    public <T> Function<T, IntStream> objFlatMapToInt(String stage, Function<T, IntStream> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            IntStream result = function.apply(value);
+            metrics.end(start);
+            return result == null ? null : result.peek(element -> metrics.emitted());
+        };
+    }
+
+    public <T> Function<T, LongStream> objFlatMapToLong(String stage, Function<T, LongStream> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            LongStream result = function.apply(value);
+            metrics.end(start);
+            return result == null ? null : result.peek(element -> metrics.emitted());
+        };
+    }
+
+    public <T> Function<T, DoubleStream> objFlatMapToDouble(String stage, Function<T, DoubleStream> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            DoubleStream result = function.apply(value);
+            metrics.end(start);
+            return result == null ? null : result.peek(element -> metrics.emitted());
+        };
+    }
+
+    public IntFunction<IntStream> intFlatMap(String stage, IntFunction<IntStream> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            IntStream result = function.apply(value);
+            metrics.end(start);
+            return result == null ? null : result.peek(element -> metrics.emitted());
+        };
+    }
+
+    public LongFunction<LongStream> longFlatMap(String stage, LongFunction<LongStream> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            LongStream result = function.apply(value);
+            metrics.end(start);
+            return result == null ? null : result.peek(element -> metrics.emitted());
+        };
+    }
+
+    public DoubleFunction<DoubleStream> doubleFlatMap(String stage, DoubleFunction<DoubleStream> function) {
+        if (!ENABLED) {
+            return function;
+        }
+        StageMetrics metrics = stage(stage);
+        return value -> {
+            long start = metrics.begin();
+            DoubleStream result = function.apply(value);
+            metrics.end(start);
+            return result == null ? null : result.peek(element -> metrics.emitted());
+        };
+    }
+
+    // terminal stages
+
+    /**
+     * Runs a terminal operation, timing it and committing a JFR event when metrics are enabled.
+     */
+    public <R> R terminal(String stage, Supplier<R> operation) {
+        if (!ENABLED) {
+            return operation.get();
+        }
+        Run run = new Run(stage(stage));
+        try {
+            return operation.get();
+        } finally {
+            run.end();
+        }
+    }
+
+    public int terminalAsInt(String stage, IntSupplier operation) {
+        if (!ENABLED) {
+            return operation.getAsInt();
+        }
+        Run run = new Run(stage(stage));
+        try {
+            return operation.getAsInt();
+        } finally {
+            run.end();
+        }
+    }
+
+    public long terminalAsLong(String stage, LongSupplier operation) {
+        if (!ENABLED) {
+            return operation.getAsLong();
+        }
+        Run run = new Run(stage(stage));
+        try {
+            return operation.getAsLong();
+        } finally {
+            run.end();
+        }
+    }
+
+    public double terminalAsDouble(String stage, DoubleSupplier operation) {
+        if (!ENABLED) {
+            return operation.getAsDouble();
+        }
+        Run run = new Run(stage(stage));
+        try {
+            return operation.getAsDouble();
+        } finally {
+            run.end();
+        }
+    }
+
+    /**
+     * {@link #terminal} for operations without a result, such as {@code forEach}.
+     */
+    public void run(String stage, Runnable operation) {
+        if (!ENABLED) {
+            operation.run();
+            return;
+        }
+        Run run = new Run(stage(stage));
+        try {
+            operation.run();
+        } finally {
+            run.end();
+        }
+    }
+
+    private StageMetrics stage(String stage) {
+        return stages.computeIfAbsent(stage, s -> register(new StageMetrics(name, s, SAMPLE_INTERVAL)));
+    }
+
+    private static StageMetrics register(StageMetrics stage) {
+        try {
+            ObjectName objectName = new ObjectName("streamprimitives:type=PipelineStage,pipeline="
+                    + ObjectName.quote(stage.getPipeline()) + ",stage=" + ObjectName.quote(stage.getStage()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(stage, objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics of " + stage.getStage(), e);
+        }
+        return stage;
+    }
+
+    /**
+     * One timed terminal run.
+     */
+    private static final class Run {
+        private final StageMetrics stage;
+        private final PipelineRunEvent event = new PipelineRunEvent();
+        private final long start;
+
+        Run(StageMetrics stage) {
+            this.stage = stage;
+            event.begin();
+            this.start = System.nanoTime();
+        }
+
+        void end() {
+            stage.record(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.pipeline = stage.getPipeline();
+                event.stage = stage.getStage();
+                event.commit();
+            }
+        }
+    }
+
+    // kept apart so that jdk.jfr is only touched when metrics are enabled
+    private static final class Jfr {
+        static void registerPeriodicEvent() {
+            FlightRecorder.addPeriodicEvent(StageStatisticsEvent.class, () -> {
+                for (PipelineMetrics pipeline : PIPELINES.values()) {
+                    for (StageMetrics stage : pipeline.stages.values()) {
+                        StageStatisticsEvent event = new StageStatisticsEvent();
+                        event.pipeline = stage.getPipeline();
+                        event.stage = stage.getStage();
+                        event.elements = stage.getElements();
+                        event.emitted = stage.getEmitted();
+                        event.boxed = stage.getBoxed();
+                        event.unboxed = stage.getUnboxed();
+                        event.meanTime = (long) stage.getMeanNanos();
+                        event.estimatedTotalTime = stage.getEstimatedTotalNanos();
+                        event.commit();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package streamprimitives.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event committed for every run of an instrumented terminal stage; its duration is the
+ * time the terminal operation took.
+ */
+@Name("streamprimitives.PipelineRun")
+@Label("Pipeline Run")
+@Category("Stream Primitives")
+@Description("A terminal operation of an instrumented primitive stream pipeline")
+@StackTrace(false)
+final class PipelineRunEvent extends jdk.jfr.Event {
+
+    @Label("Pipeline")
+    String pipeline;
+
+    @Label("Stage")
+    String stage;
+}
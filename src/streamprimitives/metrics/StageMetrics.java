@@ -0,0 +1,149 @@
+package streamprimitives.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one instrumented stage.
+ * <p>
+ * Every call is counted, but only about one in {@code sampleInterval} is timed: two
+ * {@code System.nanoTime()} calls cost more than a typical {@code map} function, so timing
+ * each element would distort exactly the stages it is meant to find. Counters are
+ * {@link LongAdder}s, which parallel streams update without contention.
+ */
+public final class StageMetrics implements StageMetricsMXBean {
+
+    private final String pipeline;
+    private final String stage;
+    private final int sampleMask;
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder boxed = new LongAdder();
+    private final LongAdder unboxed = new LongAdder();
+    private final LongAdder sampledCalls = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+
+    StageMetrics(String pipeline, String stage, int sampleInterval) {
+        this.pipeline = pipeline;
+        this.stage = stage;
+        this.sampleMask = sampleInterval - 1;
+    }
+
+    /**
+     * Starts a call: returns its start time if it is sampled, 0 otherwise.
+     */
+    long begin() {
+        return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0 ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Ends a call started with {@link #begin()}.
+     */
+    void end(long start) {
+        elements.increment();
+        if (start != 0L) {
+            sampledNanos.add(System.nanoTime() - start);
+            sampledCalls.increment();
+        }
+    }
+
+    /**
+     * Records a call that is always timed, such as a terminal operation.
+     */
+    void record(long nanos) {
+        elements.increment();
+        sampledNanos.add(nanos);
+        sampledCalls.increment();
+    }
+
+    void emitted() {
+        emitted.increment();
+    }
+
+    void boxed(Object value) {
+        if (isBox(value)) {
+            boxed.increment();
+        }
+    }
+
+    void unboxed(Object value) {
+        if (isBox(value)) {
+            unboxed.increment();
+        }
+    }
+
+    private static boolean isBox(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Double
+                || value instanceof Float || value instanceof Short || value instanceof Byte
+                || value instanceof Character || value instanceof Boolean;
+    }
+
+    @Override
+    public String getPipeline() {
+        return pipeline;
+    }
+
+    @Override
+    public String getStage() {
+        return stage;
+    }
+
+    @Override
+    public long getElements() {
+        return elements.sum();
+    }
+
+    @Override
+    public long getEmitted() {
+        return emitted.sum();
+    }
+
+    @Override
+    public long getBoxed() {
+        return boxed.sum();
+    }
+
+    @Override
+    public long getUnboxed() {
+        return unboxed.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        long calls = sampledCalls.sum();
+        return calls > 0 ? (double) sampledNanos.sum() / calls : Double.NaN;
+    }
+
+    @Override
+    public long getEstimatedTotalNanos() {
+        long calls = sampledCalls.sum();
+        return calls > 0 ? (long) ((double) sampledNanos.sum() / calls * elements.sum()) : 0L;
+    }
+
+    @Override
+    public void reset() {
+        elements.reset();
+        emitted.reset();
+        boxed.reset();
+        unboxed.reset();
+        sampledCalls.reset();
+        sampledNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(pipeline).append('/').append(stage)
+                .append(": elements=").append(getElements());
+        if (getEmitted() > 0) {
+            sb.append(", emitted=").append(getEmitted());
+        }
+        if (getBoxed() > 0) {
+            sb.append(", boxed=").append(getBoxed());
+        }
+        if (getUnboxed() > 0) {
+            sb.append(", unboxed=").append(getUnboxed());
+        }
+        return sb.append(String.format(", mean=%.1f ns, total~%.3f ms", getMeanNanos(), getEstimatedTotalNanos() / 1e6))
+                .toString();
+    }
+}
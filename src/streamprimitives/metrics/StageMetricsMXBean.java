@@ -0,0 +1,45 @@
+package streamprimitives.metrics;
+
+/**
+ * Management view of one instrumented stage, registered as
+ * {@code streamprimitives:type=PipelineStage,pipeline=<pipeline>,stage=<stage>}.
+ */
+public interface StageMetricsMXBean {
+
+    String getPipeline();
+
+    String getStage();
+
+    /**
+     * Elements that went into the stage, or runs of a terminal stage.
+     */
+    long getElements();
+
+    /**
+     * Elements produced by the streams a {@code flatMapToX} stage returned.
+     */
+    long getEmitted();
+
+    /**
+     * Boxed primitives returned by a {@code mapToObj} stage.
+     */
+    long getBoxed();
+
+    /**
+     * Boxed primitives that went into a {@code mapToInt}/{@code mapToLong}/{@code mapToDouble}
+     * stage.
+     */
+    long getUnboxed();
+
+    /**
+     * Mean time of one call, measured on a sample of the calls.
+     */
+    double getMeanNanos();
+
+    /**
+     * Mean time per call multiplied by the number of calls.
+     */
+    long getEstimatedTotalNanos();
+
+    void reset();
+}
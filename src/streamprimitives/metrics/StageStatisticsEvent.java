@@ -0,0 +1,47 @@
+package streamprimitives.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Periodic JFR event with the cumulative counters of one instrumented stage.
+ */
+@Name("streamprimitives.StageStatistics")
+@Label("Pipeline Stage Statistics")
+@Category("Stream Primitives")
+@Description("Cumulative element counts, boxing and sampled timings of an instrumented stage")
+@Period("10 s")
+@StackTrace(false)
+final class StageStatisticsEvent extends jdk.jfr.Event {
+
+    @Label("Pipeline")
+    String pipeline;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Elements")
+    long elements;
+
+    @Label("Emitted")
+    long emitted;
+
+    @Label("Boxed")
+    long boxed;
+
+    @Label("Unboxed")
+    long unboxed;
+
+    @Label("Mean Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long meanTime;
+
+    @Label("Estimated Total Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long estimatedTotalTime;
+}
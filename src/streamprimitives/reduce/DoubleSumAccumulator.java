@@ -0,0 +1,74 @@
+package streamprimitives.reduce;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Mutable running sum of doubles in one {@link SummationMode}, usable as the container of
+ * {@code DoubleStream.collect}:
+ * <pre>
+ * double sum = stream.collect(SummationMode.NEUMAIER::newAccumulator,
+ *         DoubleSumAccumulator::accept, DoubleSumAccumulator::combine).getSum();
+ * </pre>
+ * Infinities and {@code NaN} give the same result as a plain sum. Not thread-safe.
+ */
+public abstract class DoubleSumAccumulator implements DoubleConsumer {
+
+    private long count;
+
+    DoubleSumAccumulator() {
+    }
+
+    public abstract SummationMode mode();
+
+    @Override
+    public final void accept(double value) {
+        count++;
+        add(value);
+    }
+
+    /**
+     * Merges the state of another accumulator of the same mode into this one.
+     *
+     * @throws IllegalArgumentException if the modes differ
+     */
+    public final void combine(DoubleSumAccumulator other) {
+        if (other.mode() != mode()) {
+            throw new IllegalArgumentException("Cannot combine " + mode() + " with " + other.mode());
+        }
+        count += other.count;
+        merge(other);
+    }
+
+    /**
+     * Clears this accumulator so that it can be reused for the next sum.
+     */
+    public final DoubleSumAccumulator reset() {
+        count = 0;
+        clear();
+        return this;
+    }
+
+    public final long getCount() {
+        return count;
+    }
+
+    public abstract double getSum();
+
+    /**
+     * The sum divided by the count, or zero when no values were added.
+     */
+    public final double getAverage() {
+        return count > 0 ? getSum() / count : 0.0d;
+    }
+
+    abstract void add(double value);
+
+    abstract void merge(DoubleSumAccumulator other);
+
+    abstract void clear();
+
+    @Override
+    public String toString() {
+        return "DoubleSumAccumulator{mode=" + mode() + ", count=" + count + ", sum=" + getSum() + '}';
+    }
+}
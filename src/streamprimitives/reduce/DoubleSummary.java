@@ -0,0 +1,85 @@
+package streamprimitives.reduce;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Mutable, caller-owned holder for count, sum, min, max and average of double values.
+ * <p>
+ * The reusable counterpart of {@link java.util.DoubleSummaryStatistics}; see {@link IntSummary}.
+ * Unlike the JDK class the sum is a plain running total without compensation, which keeps
+ * the inner loop as cheap as the int and long versions. Min and max propagate {@code NaN}.
+ * <p>
+ * Not thread-safe.
+ */
+public final class DoubleSummary implements DoubleConsumer {
+
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Records another value.
+     */
+    @Override
+    public void accept(double value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Merges the state of another holder into this one.
+     */
+    public void combine(DoubleSummary other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Clears this holder so that it can be reused for the next aggregate.
+     */
+    public DoubleSummary reset() {
+        count = 0;
+        sum = 0.0d;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        return this;
+    }
+
+    void set(long count, double sum, double min, double max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        return count > 0 ? sum / count : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleSummary{count=" + count + ", sum=" + sum + ", min=" + min
+                + ", average=" + getAverage() + ", max=" + max + '}';
+    }
+}
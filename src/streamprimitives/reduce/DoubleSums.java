@@ -0,0 +1,103 @@
+package streamprimitives.reduce;
+
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+/**
+ * Sums and averages of doubles with a selectable {@link SummationMode}.
+ * <p>
+ * {@code DoubleStream.of(1.0, 1.1, 1.2).sum()} and {@code average()} always pay for Kahan
+ * compensation, which is more than a telemetry rollup needs and less than a ledger
+ * needs. Here the caller chooses:
+ * <pre>
+ * double fast  = DoubleSums.sum(readings, SummationMode.NAIVE);
+ * double exact = DoubleSums.sum(DoubleStream.of(1.0, 1.1, 1.2), SummationMode.EXACT);   // 3.3
+ * </pre>
+ * Stream reductions collect into one {@link DoubleSumAccumulator} per split and combine them,
+ * so they work in parallel in every mode. Array sums run a dedicated loop per mode.
+ */
+public final class DoubleSums {
+
+    private DoubleSums() {
+    }
+
+    public static double sum(DoubleStream stream, SummationMode mode) {
+        return accumulate(stream, mode).getSum();
+    }
+
+    /**
+     * Mirrors {@code DoubleStream.average()}: empty for an empty stream.
+     */
+    public static OptionalDouble average(DoubleStream stream, SummationMode mode) {
+        DoubleSumAccumulator accumulator = accumulate(stream, mode);
+        return accumulator.getCount() > 0 ? OptionalDouble.of(accumulator.getAverage()) : OptionalDouble.empty();
+    }
+
+    public static DoubleSumAccumulator accumulate(DoubleStream stream, SummationMode mode) {
+        return stream.collect(mode::newAccumulator, DoubleSumAccumulator::accept, DoubleSumAccumulator::combine);
+    }
+
+    public static double sum(double[] values, SummationMode mode) {
+        return sum(values, 0, values.length, mode);
+    }
+
+    public static double sum(double[] values, int from, int to, SummationMode mode) {
+        PrimitiveReducers.checkRange(values.length, from, to);
+        switch (mode) {
+            case NAIVE:
+                return naive(values, from, to);
+            case KAHAN:
+            case NEUMAIER:
+            case EXACT: {
+                DoubleSumAccumulator accumulator = mode.newAccumulator();
+                for (int i = from; i < to; i++) {
+                    accumulator.add(values[i]);
+                }
+                return accumulator.getSum();
+            }
+            case PAIRWISE:
+                return pairwise(values, from, to);
+            default:
+                throw new AssertionError(mode);
+        }
+    }
+
+    /**
+     * Empty ranges average to zero, like {@link PrimitiveReducers#average(double[])}.
+     */
+    public static double average(double[] values, SummationMode mode) {
+        return average(values, 0, values.length, mode);
+    }
+
+    public static double average(double[] values, int from, int to, SummationMode mode) {
+        return from < to ? sum(values, from, to, mode) / (to - from) : 0.0d;
+    }
+
+    private static double naive(double[] values, int from, int to) {
+        double s0 = 0.0d;
+        double s1 = 0.0d;
+        double s2 = 0.0d;
+        double s3 = 0.0d;
+        int i = from;
+        for (int end = to - 3; i < end; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static double pairwise(double[] values, int from, int to) {
+        int n = to - from;
+        if (n <= PairwiseSum.BLOCK) {
+            return naive(values, from, to);
+        }
+        // split on a block boundary so the leaves are whole blocks
+        int half = (n / 2 + PairwiseSum.BLOCK - 1) / PairwiseSum.BLOCK * PairwiseSum.BLOCK;
+        return pairwise(values, from, from + half) + pairwise(values, from + half, to);
+    }
+}
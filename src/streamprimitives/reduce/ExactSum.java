@@ -0,0 +1,102 @@
+package streamprimitives.reduce;
+
+import java.util.Arrays;
+
+/**
+ * {@link SummationMode#EXACT} accumulator: Shewchuk's algorithm. The exact sum of all finite
+ * values is kept as a list of non-overlapping partials in increasing magnitude, each addition
+ * being split into its rounded sum and its exact rounding error with two-sum. Infinite and
+ * {@code NaN} values are added to a separate plain sum, which wins when it is not zero
+ * (NaN included).
+ */
+final class ExactSum extends DoubleSumAccumulator {
+
+    private double[] partials = new double[8];
+    private int size;
+    private double special;
+
+    @Override
+    public SummationMode mode() {
+        return SummationMode.EXACT;
+    }
+
+    @Override
+    void add(double x) {
+        if (!Double.isFinite(x)) {
+            special += x;
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            double y = partials[i];
+            if (Math.abs(x) < Math.abs(y)) {
+                double t = x;
+                x = y;
+                y = t;
+            }
+            double hi = x + y;
+            double lo = y - (hi - x);
+            if (lo != 0.0d) {
+                partials[kept++] = lo;
+            }
+            x = hi;
+        }
+        if (Double.isInfinite(x)) {
+            // an intermediate sum overflowed; the partials no longer represent the sum
+            special += x;
+            size = 0;
+            return;
+        }
+        if (kept == partials.length) {
+            partials = Arrays.copyOf(partials, kept * 2);
+        }
+        partials[kept++] = x;
+        size = kept;
+    }
+
+    @Override
+    void merge(DoubleSumAccumulator other) {
+        ExactSum that = (ExactSum) other;
+        special += that.special;
+        for (int i = 0; i < that.size; i++) {
+            add(that.partials[i]);
+        }
+    }
+
+    @Override
+    void clear() {
+        size = 0;
+        special = 0.0d;
+    }
+
+    @Override
+    public double getSum() {
+        if (special != 0.0d) {
+            return special;
+        }
+        int n = size;
+        if (n == 0) {
+            return 0.0d;
+        }
+        double hi = partials[--n];
+        double lo = 0.0d;
+        while (n > 0) {
+            double x = hi;
+            double y = partials[--n];
+            hi = x + y;
+            lo = y - (hi - x);
+            if (lo != 0.0d) {
+                break;
+            }
+        }
+        // round half to even correctly when the rest of the partials push lo past a tie
+        if (n > 0 && ((lo < 0.0d && partials[n - 1] < 0.0d) || (lo > 0.0d && partials[n - 1] > 0.0d))) {
+            double y = lo * 2.0d;
+            double x = hi + y;
+            if (y == x - hi) {
+                hi = x;
+            }
+        }
+        return hi;
+    }
+}
@@ -0,0 +1,87 @@
+package streamprimitives.reduce;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Mutable, caller-owned holder for count, sum, min, max and average of int values.
+ * <p>
+ * This is the reusable counterpart of {@link java.util.IntSummaryStatistics}: instead of
+ * allocating a new statistics object (or an {@code OptionalDouble}) per aggregate, the caller
+ * keeps one instance and {@link #reset()}s it between runs. Empty results follow the
+ * {@code IntSummaryStatistics} conventions: min is {@link Integer#MAX_VALUE}, max is
+ * {@link Integer#MIN_VALUE} and the average is zero.
+ * <p>
+ * Not thread-safe.
+ */
+public final class IntSummary implements IntConsumer {
+
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * Records another value.
+     */
+    @Override
+    public void accept(int value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Merges the state of another holder into this one.
+     */
+    public void combine(IntSummary other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Clears this holder so that it can be reused for the next aggregate.
+     */
+    public IntSummary reset() {
+        count = 0;
+        sum = 0;
+        min = Integer.MAX_VALUE;
+        max = Integer.MIN_VALUE;
+        return this;
+    }
+
+    void set(long count, long sum, int min, int max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        return count > 0 ? (double) sum / count : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return "IntSummary{count=" + count + ", sum=" + sum + ", min=" + min
+                + ", average=" + getAverage() + ", max=" + max + '}';
+    }
+}
@@ -0,0 +1,52 @@
+package streamprimitives.reduce;
+
+/**
+ * {@link SummationMode#KAHAN} accumulator. The exact sum is approximately
+ * {@code sum - compensation}; a plain sum is kept alongside for infinite and {@code NaN} inputs,
+ * which turn the compensation into {@code NaN}.
+ */
+final class KahanSum extends DoubleSumAccumulator {
+
+    private double sum;
+    private double compensation;
+    private double simpleSum;
+
+    @Override
+    public SummationMode mode() {
+        return SummationMode.KAHAN;
+    }
+
+    @Override
+    void add(double value) {
+        simpleSum += value;
+        addCompensated(value);
+    }
+
+    private void addCompensated(double value) {
+        double y = value - compensation;
+        double t = sum + y;
+        compensation = (t - sum) - y;
+        sum = t;
+    }
+
+    @Override
+    void merge(DoubleSumAccumulator other) {
+        KahanSum that = (KahanSum) other;
+        simpleSum += that.simpleSum;
+        addCompensated(that.sum);
+        addCompensated(-that.compensation);
+    }
+
+    @Override
+    void clear() {
+        sum = 0.0d;
+        compensation = 0.0d;
+        simpleSum = 0.0d;
+    }
+
+    @Override
+    public double getSum() {
+        double result = sum - compensation;
+        return Double.isNaN(result) ? simpleSum : result;
+    }
+}
@@ -0,0 +1,93 @@
+package streamprimitives.reduce;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Mutable, caller-owned holder for count, sum, min, max and average of long values.
+ * <p>
+ * The reusable counterpart of {@link java.util.LongSummaryStatistics}; see {@link IntSummary}.
+ * The sum wraps on overflow, like {@code LongStream.sum()}.
+ * <p>
+ * Not thread-safe.
+ */
+public final class LongSummary implements LongConsumer, IntConsumer {
+
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Records another value.
+     */
+    @Override
+    public void accept(long value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Records another value.
+     */
+    @Override
+    public void accept(int value) {
+        accept((long) value);
+    }
+
+    /**
+     * Merges the state of another holder into this one.
+     */
+    public void combine(LongSummary other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Clears this holder so that it can be reused for the next aggregate.
+     */
+    public LongSummary reset() {
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+        return this;
+    }
+
+    void set(long count, long sum, long min, long max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        return count > 0 ? (double) sum / count : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return "LongSummary{count=" + count + ", sum=" + sum + ", min=" + min
+                + ", average=" + getAverage() + ", max=" + max + '}';
+    }
+}
@@ -0,0 +1,34 @@
+package streamprimitives.reduce;
+
+/**
+ * {@link SummationMode#NAIVE} accumulator.
+ */
+final class NaiveSum extends DoubleSumAccumulator {
+
+    private double sum;
+
+    @Override
+    public SummationMode mode() {
+        return SummationMode.NAIVE;
+    }
+
+    @Override
+    void add(double value) {
+        sum += value;
+    }
+
+    @Override
+    void merge(DoubleSumAccumulator other) {
+        sum += ((NaiveSum) other).sum;
+    }
+
+    @Override
+    void clear() {
+        sum = 0.0d;
+    }
+
+    @Override
+    public double getSum() {
+        return sum;
+    }
+}
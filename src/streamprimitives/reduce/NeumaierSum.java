@@ -0,0 +1,54 @@
+package streamprimitives.reduce;
+
+/**
+ * {@link SummationMode#NEUMAIER} accumulator. The exact sum is approximately
+ * {@code sum + compensation}.
+ */
+final class NeumaierSum extends DoubleSumAccumulator {
+
+    private double sum;
+    private double compensation;
+    private double simpleSum;
+
+    @Override
+    public SummationMode mode() {
+        return SummationMode.NEUMAIER;
+    }
+
+    @Override
+    void add(double value) {
+        simpleSum += value;
+        addCompensated(value);
+    }
+
+    private void addCompensated(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+
+    @Override
+    void merge(DoubleSumAccumulator other) {
+        NeumaierSum that = (NeumaierSum) other;
+        simpleSum += that.simpleSum;
+        addCompensated(that.sum);
+        compensation += that.compensation;
+    }
+
+    @Override
+    void clear() {
+        sum = 0.0d;
+        compensation = 0.0d;
+        simpleSum = 0.0d;
+    }
+
+    @Override
+    public double getSum() {
+        double result = sum + compensation;
+        return Double.isNaN(result) ? simpleSum : result;
+    }
+}
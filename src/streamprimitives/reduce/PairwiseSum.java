@@ -0,0 +1,129 @@
+package streamprimitives.reduce;
+
+import java.util.Arrays;
+
+/**
+ * {@link SummationMode#PAIRWISE} accumulator for values that arrive one at a time.
+ * <p>
+ * Values are added naively into a block; every full block is pushed on a stack of partial sums
+ * that works like a binary counter: a partial of level k covers 2<sup>k</sup> blocks, and two
+ * partials of the same level are merged into one of the next level. The stack therefore never
+ * holds more than one partial per level, about log<sub>2</sub>(n/128) in total.
+ */
+final class PairwiseSum extends DoubleSumAccumulator {
+
+    static final int BLOCK = 128;
+
+    private double block;
+    private int blockCount;
+    private double[] partials = new double[16];
+    private int[] levels = new int[16];
+    private int depth;
+
+    @Override
+    public SummationMode mode() {
+        return SummationMode.PAIRWISE;
+    }
+
+    @Override
+    void add(double value) {
+        block += value;
+        if (++blockCount == BLOCK) {
+            push(block, 0);
+            block = 0.0d;
+            blockCount = 0;
+        }
+    }
+
+    private void push(double partial, int level) {
+        while (depth > 0 && levels[depth - 1] == level) {
+            partial += partials[--depth];
+            level++;
+        }
+        if (depth == partials.length) {
+            partials = Arrays.copyOf(partials, depth * 2);
+            levels = Arrays.copyOf(levels, depth * 2);
+        }
+        partials[depth] = partial;
+        levels[depth++] = level;
+    }
+
+    /**
+     * Adds the other stack like two binary numbers: level by level from the lowest, with a
+     * carry, so the result again holds at most one partial per level. The unfinished blocks
+     * are added together; when they hold a full block's worth of values between them they
+     * enter as a level-0 carry, otherwise they stay the unfinished block.
+     */
+    @Override
+    void merge(DoubleSumAccumulator other) {
+        PairwiseSum that = (PairwiseSum) other;
+        double remainder = block + that.block;
+        int remainderCount = blockCount + that.blockCount;
+        boolean carrying = remainderCount >= BLOCK;
+        double carry = remainder;
+        if (carrying) {
+            block = 0.0d;
+            blockCount = 0;
+        } else {
+            block = remainder;
+            blockCount = remainderCount;
+        }
+
+        int maxLevel = Math.max(depth > 0 ? levels[0] : 0, that.depth > 0 ? that.levels[0] : 0) + 1;
+        double[] mine = new double[maxLevel + 1];
+        boolean[] present = new boolean[maxLevel + 1];
+        for (int i = 0; i < depth; i++) {
+            mine[levels[i]] = partials[i];
+            present[levels[i]] = true;
+        }
+        depth = 0;
+        double[] sums = new double[maxLevel + 1];
+        boolean[] kept = new boolean[maxLevel + 1];
+        int j = that.depth - 1;
+        for (int level = 0; level <= maxLevel; level++) {
+            boolean theirs = j >= 0 && that.levels[j] == level;
+            double their = theirs ? that.partials[j--] : 0.0d;
+            int n = (present[level] ? 1 : 0) + (theirs ? 1 : 0) + (carrying ? 1 : 0);
+            if (n == 1) {
+                sums[level] = present[level] ? mine[level] : theirs ? their : carry;
+                kept[level] = true;
+                carrying = false;
+            } else if (n == 2) {
+                carry = present[level] ? (theirs ? mine[level] + their : mine[level] + carry) : their + carry;
+                carrying = true;
+            } else if (n == 3) {
+                // keep the carry at this level and merge the two partials upwards
+                sums[level] = carry;
+                kept[level] = true;
+                carry = mine[level] + their;
+            }
+        }
+        for (int level = maxLevel; level >= 0; level--) {
+            if (kept[level]) {
+                if (depth == partials.length) {
+                    partials = Arrays.copyOf(partials, depth * 2);
+                    levels = Arrays.copyOf(levels, depth * 2);
+                }
+                partials[depth] = sums[level];
+                levels[depth++] = level;
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        block = 0.0d;
+        blockCount = 0;
+        depth = 0;
+    }
+
+    @Override
+    public double getSum() {
+        // smallest partials first
+        double sum = block;
+        for (int i = depth - 1; i >= 0; i--) {
+            sum += partials[i];
+        }
+        return sum;
+    }
+}
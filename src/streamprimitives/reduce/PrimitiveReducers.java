@@ -0,0 +1,297 @@
+package streamprimitives.reduce;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Allocation-free reductions over {@code int[]}, {@code long[]} and {@code double[]}.
+ * <p>
+ * These are the loops behind {@code IntStream.of(1, 2, 3).sum()} and {@code average()} without
+ * the pipeline objects, the internal accumulator arrays and the {@code OptionalDouble} that
+ * each stream call creates. Results are returned as primitives or written into a
+ * caller-owned {@link IntSummary}, {@link LongSummary} or {@link DoubleSummary}.
+ * <p>
+ * Empty ranges never throw; they follow the summary-statistics conventions of the JDK:
+ * min is the type's largest value, max its smallest value and the average is zero.
+ * Int sums are accumulated in a {@code long}, so they do not overflow the way
+ * {@code IntStream.sum()} does.
+ */
+public final class PrimitiveReducers {
+
+    private PrimitiveReducers() {
+    }
+
+    // int[]
+
+    public static long sum(int[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    public static long sum(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public static int min(int[] values) {
+        return min(values, 0, values.length);
+    }
+
+    public static int min(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        int min = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    public static int max(int[] values) {
+        return max(values, 0, values.length);
+    }
+
+    public static int max(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    public static double average(int[] values) {
+        return average(values, 0, values.length);
+    }
+
+    public static double average(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        return from == to ? 0.0d : (double) sum(values, from, to) / (to - from);
+    }
+
+    public static int count(int[] values, IntPredicate predicate) {
+        return count(values, 0, values.length, predicate);
+    }
+
+    public static int count(int[] values, int from, int to, IntPredicate predicate) {
+        checkRange(values.length, from, to);
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static IntSummary summarize(int[] values, IntSummary into) {
+        return summarize(values, 0, values.length, into);
+    }
+
+    /**
+     * Overwrites {@code into} with the statistics of {@code values[from, to)} and returns it.
+     */
+    public static IntSummary summarize(int[] values, int from, int to, IntSummary into) {
+        checkRange(values.length, from, to);
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            int value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        into.set(to - from, sum, min, max);
+        return into;
+    }
+
+    // long[]
+
+    public static long sum(long[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    public static long sum(long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public static long min(long[] values) {
+        return min(values, 0, values.length);
+    }
+
+    public static long min(long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long min = Long.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    public static long max(long[] values) {
+        return max(values, 0, values.length);
+    }
+
+    public static long max(long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    public static double average(long[] values) {
+        return average(values, 0, values.length);
+    }
+
+    public static double average(long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        return from == to ? 0.0d : (double) sum(values, from, to) / (to - from);
+    }
+
+    public static int count(long[] values, LongPredicate predicate) {
+        return count(values, 0, values.length, predicate);
+    }
+
+    public static int count(long[] values, int from, int to, LongPredicate predicate) {
+        checkRange(values.length, from, to);
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static LongSummary summarize(long[] values, LongSummary into) {
+        return summarize(values, 0, values.length, into);
+    }
+
+    /**
+     * Overwrites {@code into} with the statistics of {@code values[from, to)} and returns it.
+     */
+    public static LongSummary summarize(long[] values, int from, int to, LongSummary into) {
+        checkRange(values.length, from, to);
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            long value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        into.set(to - from, sum, min, max);
+        return into;
+    }
+
+    // double[]
+
+    public static double sum(double[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    public static double sum(double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        double sum = 0.0d;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    public static double min(double[] values) {
+        return min(values, 0, values.length);
+    }
+
+    public static double min(double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    public static double max(double[] values) {
+        return max(values, 0, values.length);
+    }
+
+    public static double max(double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    public static double average(double[] values) {
+        return average(values, 0, values.length);
+    }
+
+    public static double average(double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        return from == to ? 0.0d : sum(values, from, to) / (to - from);
+    }
+
+    public static int count(double[] values, DoublePredicate predicate) {
+        return count(values, 0, values.length, predicate);
+    }
+
+    public static int count(double[] values, int from, int to, DoublePredicate predicate) {
+        checkRange(values.length, from, to);
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static DoubleSummary summarize(double[] values, DoubleSummary into) {
+        return summarize(values, 0, values.length, into);
+    }
+
+    /**
+     * Overwrites {@code into} with the statistics of {@code values[from, to)} and returns it.
+     */
+    public static DoubleSummary summarize(double[] values, int from, int to, DoubleSummary into) {
+        checkRange(values.length, from, to);
+        double sum = 0.0d;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            double value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        into.set(to - from, sum, min, max);
+        return into;
+    }
+
+    static void checkRange(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0) {
+            throw new ArrayIndexOutOfBoundsException(from);
+        }
+        if (to > length) {
+            throw new ArrayIndexOutOfBoundsException(to);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package streamprimitives.reduce;
+
+/**
+ * How {@link DoubleSums} adds doubles, from fastest to most accurate.
+ * <p>
+ * The bounds below are on the absolute error of a sum of n values x<sub>i</sub>, where
+ * u = 2<sup>-53</sup> is the unit roundoff and S = &Sigma;|x<sub>i</sub>|. When the values
+ * cancel, S can be far larger than |&Sigma;x<sub>i</sub>|, and then only the last two modes
+ * keep the relative error small. Combining parallel partial results adds at most one
+ * rounding per combine for {@code NAIVE}, {@code KAHAN} and {@code PAIRWISE}, and none for
+ * {@code EXACT}. {@code DoubleStream.sum()} and {@code average()} use a Kahan-style
+ * compensated sum.
+ */
+public enum SummationMode {
+
+    /**
+     * Plain running total, error up to (n - 1)&middot;u&middot;S. Array sums keep four
+     * interleaved totals, which breaks the dependency between consecutive additions and
+     * roughly quarters both the time and the error bound.
+     */
+    NAIVE {
+        @Override
+        public DoubleSumAccumulator newAccumulator() {
+            return new NaiveSum();
+        }
+    },
+
+    /**
+     * Kahan's compensated summation, error up to (2u + O(n&middot;u<sup>2</sup>))&middot;S,
+     * independent of n to first order. Loses the compensation when a value is larger in
+     * magnitude than the running sum.
+     */
+    KAHAN {
+        @Override
+        public DoubleSumAccumulator newAccumulator() {
+            return new KahanSum();
+        }
+    },
+
+    /**
+     * Neumaier's improvement on Kahan, which also compensates when a value is larger than the
+     * running sum: error up to u&middot;|&Sigma;x<sub>i</sub>| + O(n&middot;u<sup>2</sup>)&middot;S,
+     * so {@code 1.0, 1e100, 1.0, -1e100} sums to 2.0.
+     */
+    NEUMAIER {
+        @Override
+        public DoubleSumAccumulator newAccumulator() {
+            return new NeumaierSum();
+        }
+    },
+
+    /**
+     * Naive sums of 128-element blocks added pairwise, error up to
+     * (127 + &lceil;log<sub>2</sub>(n/128)&rceil;)&middot;u&middot;S. Nearly as fast as
+     * {@code NAIVE}, and the error grows with log n instead of n.
+     */
+    PAIRWISE {
+        @Override
+        public DoubleSumAccumulator newAccumulator() {
+            return new PairwiseSum();
+        }
+    },
+
+    /**
+     * Shewchuk's exact summation with non-overlapping partials (the algorithm of Python's
+     * {@code math.fsum}). The result is the exact sum correctly rounded, error at most
+     * u&middot;|&Sigma;x<sub>i</sub>|, in any order and under any parallel split. It costs
+     * several times {@code NEUMAIER}. If an intermediate partial sum overflows, the result is
+     * infinite even when the exact sum would be finite.
+     */
+    EXACT {
+        @Override
+        public DoubleSumAccumulator newAccumulator() {
+            return new ExactSum();
+        }
+    };
+
+    public abstract DoubleSumAccumulator newAccumulator();
+}
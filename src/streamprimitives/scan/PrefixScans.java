@@ -0,0 +1,161 @@
+package streamprimitives.scan;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Inclusive prefix scans (running totals) of primitive streams and arrays.
+ * <p>
+ * {@code reduce} and {@code sum()} only return the final value of the accumulator. A scan
+ * returns every intermediate value:
+ * <pre>
+ * PrefixScans.scan(IntStream.of(1, 2, 3), Integer::sum)              // 1, 3, 6
+ * PrefixScans.runningTotals(IntStream.rangeClosed(1, 4))             // 1L, 3L, 6L, 10L
+ * PrefixScans.scan(DoubleStream.of(3.0, 1.0, 2.0), Math::min)        // 3.0, 1.0, 1.0
+ * </pre>
+ * The operator must be associative. Sequential streams are scanned lazily, element by element,
+ * so they may be infinite. Parallel streams are collected with {@code toArray()} when their
+ * terminal operation starts and then scanned with {@link Arrays#parallelPrefix}, the
+ * work-efficient two-pass fork-join scan: one pass reduces each block, the other rescans each
+ * block from the combined prefix of the blocks before it. Parallel sources must be finite and
+ * fit in an array. Floating-point addition is not exactly associative, so parallel double sums
+ * can differ from sequential ones in the last bits.
+ */
+public final class PrefixScans {
+
+    /**
+     * Below this length the array scans use a plain loop; fork-join does not pay off.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private static final int PARALLEL_CHARACTERISTICS =
+            Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private PrefixScans() {
+    }
+
+    /**
+     * Replaces each element with the result of the operator over it and all elements before it.
+     */
+    public static IntStream scan(IntStream stream, IntBinaryOperator operator) {
+        if (stream.isParallel()) {
+            return StreamSupport.intStream(() -> {
+                int[] values = stream.toArray();
+                Arrays.parallelPrefix(values, operator);
+                return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            }, PARALLEL_CHARACTERISTICS, true).onClose(stream::close);
+        }
+        return StreamSupport.intStream(new ScanIntSpliterator(stream.spliterator(), operator), false)
+                .onClose(stream::close);
+    }
+
+    public static LongStream scan(LongStream stream, LongBinaryOperator operator) {
+        if (stream.isParallel()) {
+            return StreamSupport.longStream(() -> {
+                long[] values = stream.toArray();
+                Arrays.parallelPrefix(values, operator);
+                return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            }, PARALLEL_CHARACTERISTICS, true).onClose(stream::close);
+        }
+        return StreamSupport.longStream(new ScanLongSpliterator(stream.spliterator(), operator), false)
+                .onClose(stream::close);
+    }
+
+    public static DoubleStream scan(DoubleStream stream, DoubleBinaryOperator operator) {
+        if (stream.isParallel()) {
+            return StreamSupport.doubleStream(() -> {
+                double[] values = stream.toArray();
+                Arrays.parallelPrefix(values, operator);
+                return Spliterators.spliterator(values, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            }, PARALLEL_CHARACTERISTICS, true).onClose(stream::close);
+        }
+        return StreamSupport.doubleStream(new ScanDoubleSpliterator(stream.spliterator(), operator), false)
+                .onClose(stream::close);
+    }
+
+    /**
+     * Running sums of an {@code IntStream}, widened to long so that they do not overflow.
+     */
+    public static LongStream runningTotals(IntStream stream) {
+        return scan(stream.asLongStream(), Long::sum);
+    }
+
+    public static LongStream runningTotals(LongStream stream) {
+        return scan(stream, Long::sum);
+    }
+
+    public static DoubleStream runningTotals(DoubleStream stream) {
+        return scan(stream, Double::sum);
+    }
+
+    // in-place array scans
+
+    /**
+     * Scans the array in place, with {@link Arrays#parallelPrefix} from
+     * 8192 elements on.
+     */
+    public static void scanInPlace(int[] array, IntBinaryOperator operator) {
+        scanInPlace(array, 0, array.length, operator);
+    }
+
+    public static void scanInPlace(int[] array, int from, int to, IntBinaryOperator operator) {
+        checkRange(array.length, from, to);
+        if (to - from >= PARALLEL_THRESHOLD) {
+            Arrays.parallelPrefix(array, from, to, operator);
+            return;
+        }
+        for (int i = from + 1; i < to; i++) {
+            array[i] = operator.applyAsInt(array[i - 1], array[i]);
+        }
+    }
+
+    public static void scanInPlace(long[] array, LongBinaryOperator operator) {
+        scanInPlace(array, 0, array.length, operator);
+    }
+
+    public static void scanInPlace(long[] array, int from, int to, LongBinaryOperator operator) {
+        checkRange(array.length, from, to);
+        if (to - from >= PARALLEL_THRESHOLD) {
+            Arrays.parallelPrefix(array, from, to, operator);
+            return;
+        }
+        for (int i = from + 1; i < to; i++) {
+            array[i] = operator.applyAsLong(array[i - 1], array[i]);
+        }
+    }
+
+    public static void scanInPlace(double[] array, DoubleBinaryOperator operator) {
+        scanInPlace(array, 0, array.length, operator);
+    }
+
+    public static void scanInPlace(double[] array, int from, int to, DoubleBinaryOperator operator) {
+        checkRange(array.length, from, to);
+        if (to - from >= PARALLEL_THRESHOLD) {
+            Arrays.parallelPrefix(array, from, to, operator);
+            return;
+        }
+        for (int i = from + 1; i < to; i++) {
+            array[i] = operator.applyAsDouble(array[i - 1], array[i]);
+        }
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0) {
+            throw new ArrayIndexOutOfBoundsException(from);
+        }
+        if (to > length) {
+            throw new ArrayIndexOutOfBoundsException(to);
+        }
+    }
+}
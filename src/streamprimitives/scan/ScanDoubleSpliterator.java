@@ -0,0 +1,60 @@
+package streamprimitives.scan;
+
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Double counterpart of {@link ScanIntSpliterator}.
+ */
+final class ScanDoubleSpliterator implements Spliterator.OfDouble, DoubleConsumer {
+
+    private final Spliterator.OfDouble source;
+    private final DoubleBinaryOperator operator;
+    private boolean started;
+    private double total;
+    private DoubleConsumer downstream;
+
+    ScanDoubleSpliterator(Spliterator.OfDouble source, DoubleBinaryOperator operator) {
+        this.source = source;
+        this.operator = operator;
+    }
+
+    @Override
+    public void accept(double value) {
+        if (started) {
+            total = operator.applyAsDouble(total, value);
+        } else {
+            total = value;
+            started = true;
+        }
+        downstream.accept(total);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        downstream = action;
+        return source.tryAdvance((DoubleConsumer) this);
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        downstream = action;
+        source.forEachRemaining((DoubleConsumer) this);
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | IMMUTABLE | NONNULL | CONCURRENT);
+    }
+}
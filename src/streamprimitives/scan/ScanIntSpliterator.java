@@ -0,0 +1,62 @@
+package streamprimitives.scan;
+
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Sequential inclusive scan: replaces each element of the source with the running result of
+ * the operator over all elements so far. Never splits, since every element depends on all the
+ * ones before it; parallel scans go through {@link PrefixScans} instead.
+ */
+final class ScanIntSpliterator implements Spliterator.OfInt, IntConsumer {
+
+    private final Spliterator.OfInt source;
+    private final IntBinaryOperator operator;
+    private boolean started;
+    private int total;
+    private IntConsumer downstream;
+
+    ScanIntSpliterator(Spliterator.OfInt source, IntBinaryOperator operator) {
+        this.source = source;
+        this.operator = operator;
+    }
+
+    @Override
+    public void accept(int value) {
+        if (started) {
+            total = operator.applyAsInt(total, value);
+        } else {
+            total = value;
+            started = true;
+        }
+        downstream.accept(total);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        downstream = action;
+        return source.tryAdvance((IntConsumer) this);
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        downstream = action;
+        source.forEachRemaining((IntConsumer) this);
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | IMMUTABLE | NONNULL | CONCURRENT);
+    }
+}
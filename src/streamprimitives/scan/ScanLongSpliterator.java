@@ -0,0 +1,60 @@
+package streamprimitives.scan;
+
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Long counterpart of {@link ScanIntSpliterator}.
+ */
+final class ScanLongSpliterator implements Spliterator.OfLong, LongConsumer {
+
+    private final Spliterator.OfLong source;
+    private final LongBinaryOperator operator;
+    private boolean started;
+    private long total;
+    private LongConsumer downstream;
+
+    ScanLongSpliterator(Spliterator.OfLong source, LongBinaryOperator operator) {
+        this.source = source;
+        this.operator = operator;
+    }
+
+    @Override
+    public void accept(long value) {
+        if (started) {
+            total = operator.applyAsLong(total, value);
+        } else {
+            total = value;
+            started = true;
+        }
+        downstream.accept(total);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        downstream = action;
+        return source.tryAdvance((LongConsumer) this);
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        downstream = action;
+        source.forEachRemaining((LongConsumer) this);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | IMMUTABLE | NONNULL | CONCURRENT);
+    }
+}
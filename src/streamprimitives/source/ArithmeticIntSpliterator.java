@@ -0,0 +1,73 @@
+package streamprimitives.source;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator over {@code first, first + step, first + 2 * step, ...} that computes each
+ * element from its index, so it can be split in O(1) like the one behind
+ * {@code IntStream.range}. Overflow wraps exactly like {@code IntStream.iterate(first, n -> n + step)}.
+ */
+final class ArithmeticIntSpliterator implements Spliterator.OfInt {
+
+    private final int first;
+    private final int step;
+    private long index;
+    private final long fence;
+
+    ArithmeticIntSpliterator(int first, int step, long index, long fence) {
+        this.first = first;
+        this.step = step;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    private int valueAt(long i) {
+        return first + (int) i * step;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index < fence) {
+            action.accept(valueAt(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        long i = index;
+        long hi = fence;
+        if (i < hi) {
+            index = hi;
+            int value = valueAt(i);
+            int step = this.step;
+            do {
+                action.accept(value);
+                value += step;
+            } while (++i < hi);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new ArithmeticIntSpliterator(first, step, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
@@ -0,0 +1,71 @@
+package streamprimitives.source;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Long counterpart of {@link ArithmeticIntSpliterator}.
+ */
+final class ArithmeticLongSpliterator implements Spliterator.OfLong {
+
+    private final long first;
+    private final long step;
+    private long index;
+    private final long fence;
+
+    ArithmeticLongSpliterator(long first, long step, long index, long fence) {
+        this.first = first;
+        this.step = step;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    private long valueAt(long i) {
+        return first + i * step;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index < fence) {
+            action.accept(valueAt(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        long i = index;
+        long hi = fence;
+        if (i < hi) {
+            index = hi;
+            long value = valueAt(i);
+            long step = this.step;
+            do {
+                action.accept(value);
+                value += step;
+            } while (++i < hi);
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new ArithmeticLongSpliterator(first, step, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
@@ -0,0 +1,82 @@
+package streamprimitives.source;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Spliterator over {@code first, first * ratio, first * ratio^2, ...} that computes each
+ * element from its index, so splits are O(1) and the values do not depend on where the
+ * stream was split.
+ * <p>
+ * When {@code ratio} is a power of two (such as the {@code d -> d / 2} of {@code Main}) the
+ * element is {@code Math.scalb(first, i * exponent)}, which is exact and cheap; otherwise it is
+ * {@code first * Math.pow(ratio, i)}.
+ */
+final class GeometricDoubleSpliterator implements Spliterator.OfDouble {
+
+    private final double first;
+    private final double ratio;
+    private final int exponent;
+    private final boolean powerOfTwo;
+    private long index;
+    private final long fence;
+
+    GeometricDoubleSpliterator(double first, double ratio, long index, long fence) {
+        this.first = first;
+        this.ratio = ratio;
+        this.exponent = Math.getExponent(ratio);
+        this.powerOfTwo = ratio > 0.0d && Math.abs(exponent) <= Double.MAX_EXPONENT
+                && ratio == Math.scalb(1.0d, exponent);
+        this.index = index;
+        this.fence = fence;
+    }
+
+    private double valueAt(long i) {
+        if (powerOfTwo) {
+            // clamp i before multiplying so that i * exponent cannot overflow; exponent is 0 or at
+            // least 1 in magnitude, and any scale beyond +-2100 gives 0 or infinity anyway
+            return Math.scalb(first, (int) Math.min(i, 2100L) * exponent);
+        }
+        return first * Math.pow(ratio, i);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index < fence) {
+            action.accept(valueAt(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        long i = index;
+        long hi = fence;
+        index = hi;
+        for (; i < hi; i++) {
+            action.accept(valueAt(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new GeometricDoubleSpliterator(first, ratio, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
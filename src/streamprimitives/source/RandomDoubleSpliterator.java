@@ -0,0 +1,71 @@
+package streamprimitives.source;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Double counterpart of {@link RandomIntSpliterator}; values are in {@code [origin, bound)},
+ * or in {@code [0, 1)} when {@code origin >= bound}.
+ */
+final class RandomDoubleSpliterator implements Spliterator.OfDouble {
+
+    private final long seed;
+    private final double origin;
+    private final double bound;
+    private long index;
+    private final long fence;
+
+    RandomDoubleSpliterator(long seed, long index, long fence, double origin, double bound) {
+        this.seed = seed;
+        this.index = index;
+        this.fence = fence;
+        this.origin = origin;
+        this.bound = bound;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index < fence) {
+            action.accept(SplitMix.nextDouble(SplitMix.key(seed, index++), origin, bound));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        long i = index;
+        long hi = fence;
+        if (i < hi) {
+            index = hi;
+            long key = SplitMix.key(seed, i);
+            double origin = this.origin;
+            double bound = this.bound;
+            do {
+                action.accept(SplitMix.nextDouble(key, origin, bound));
+                key += SplitMix.GOLDEN_GAMMA;
+            } while (++i < hi);
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new RandomDoubleSpliterator(seed, lo, mid, origin, bound);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
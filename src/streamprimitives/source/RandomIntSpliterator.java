@@ -0,0 +1,71 @@
+package streamprimitives.source;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Index-based spliterator over SplitMix64 ints in {@code [origin, bound)}, or over all ints
+ * when {@code origin >= bound}. Splits in O(1) and never touches shared state.
+ */
+final class RandomIntSpliterator implements Spliterator.OfInt {
+
+    private final long seed;
+    private final int origin;
+    private final int bound;
+    private long index;
+    private final long fence;
+
+    RandomIntSpliterator(long seed, long index, long fence, int origin, int bound) {
+        this.seed = seed;
+        this.index = index;
+        this.fence = fence;
+        this.origin = origin;
+        this.bound = bound;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index < fence) {
+            action.accept(SplitMix.nextInt(SplitMix.key(seed, index++), origin, bound));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        long i = index;
+        long hi = fence;
+        if (i < hi) {
+            index = hi;
+            long key = SplitMix.key(seed, i);
+            int origin = this.origin;
+            int bound = this.bound;
+            do {
+                action.accept(SplitMix.nextInt(key, origin, bound));
+                key += SplitMix.GOLDEN_GAMMA;
+            } while (++i < hi);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new RandomIntSpliterator(seed, lo, mid, origin, bound);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
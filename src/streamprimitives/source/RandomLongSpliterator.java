@@ -0,0 +1,70 @@
+package streamprimitives.source;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Long counterpart of {@link RandomIntSpliterator}.
+ */
+final class RandomLongSpliterator implements Spliterator.OfLong {
+
+    private final long seed;
+    private final long origin;
+    private final long bound;
+    private long index;
+    private final long fence;
+
+    RandomLongSpliterator(long seed, long index, long fence, long origin, long bound) {
+        this.seed = seed;
+        this.index = index;
+        this.fence = fence;
+        this.origin = origin;
+        this.bound = bound;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index < fence) {
+            action.accept(SplitMix.nextLong(SplitMix.key(seed, index++), origin, bound));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        long i = index;
+        long hi = fence;
+        if (i < hi) {
+            index = hi;
+            long key = SplitMix.key(seed, i);
+            long origin = this.origin;
+            long bound = this.bound;
+            do {
+                action.accept(SplitMix.nextLong(key, origin, bound));
+                key += SplitMix.GOLDEN_GAMMA;
+            } while (++i < hi);
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new RandomLongSpliterator(seed, lo, mid, origin, bound);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
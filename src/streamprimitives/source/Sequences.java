@@ -0,0 +1,73 @@
+package streamprimitives.source;
+
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Closed-form arithmetic and geometric sequences as splittable primitive streams.
+ * <p>
+ * {@code IntStream.iterate(1, n -> n + 1).limit(5)} has to compute element n from element
+ * n - 1 and {@code limit} is an ordered, stateful operation, so a parallel pipeline over it
+ * barely splits. The sources here know their size up front and compute every element from its
+ * index, which lets them split in O(1) the same way {@code IntStream.range} does:
+ * <pre>
+ * IntStream.iterate(1, n -&gt; n + 1).limit(5)   ==  Sequences.arithmetic(1, 1, 5)
+ * DoubleStream.iterate(.5, d -&gt; d / 2).limit(3) ==  Sequences.geometric(.5, .5, 3)
+ * </pre>
+ * All returned streams are sequential; call {@code parallel()} as usual.
+ */
+public final class Sequences {
+
+    private Sequences() {
+    }
+
+    /**
+     * Returns {@code first, first + step, ..., first + (count - 1) * step}.
+     * Overflow wraps like the equivalent {@code IntStream.iterate}.
+     */
+    public static IntStream arithmetic(int first, int step, long count) {
+        return StreamSupport.intStream(arithmeticSpliterator(first, step, count), false);
+    }
+
+    public static Spliterator.OfInt arithmeticSpliterator(int first, int step, long count) {
+        return new ArithmeticIntSpliterator(first, step, 0L, checkCount(count));
+    }
+
+    /**
+     * Returns {@code first, first + step, ..., first + (count - 1) * step}.
+     * Overflow wraps like the equivalent {@code LongStream.iterate}.
+     */
+    public static LongStream arithmetic(long first, long step, long count) {
+        return StreamSupport.longStream(arithmeticSpliterator(first, step, count), false);
+    }
+
+    public static Spliterator.OfLong arithmeticSpliterator(long first, long step, long count) {
+        return new ArithmeticLongSpliterator(first, step, 0L, checkCount(count));
+    }
+
+    /**
+     * Returns {@code first, first * ratio, ..., first * ratio^(count - 1)}.
+     * <p>
+     * For power-of-two ratios the values are identical to
+     * {@code DoubleStream.iterate(first, d -> d * ratio).limit(count)} as long as they stay
+     * in the normal range. For other ratios each element is rounded once from
+     * {@code Math.pow}, so it may differ from repeated multiplication in the last few ulps.
+     */
+    public static DoubleStream geometric(double first, double ratio, long count) {
+        return StreamSupport.doubleStream(geometricSpliterator(first, ratio, count), false);
+    }
+
+    public static Spliterator.OfDouble geometricSpliterator(double first, double ratio, long count) {
+        return new GeometricDoubleSpliterator(first, ratio, 0L, checkCount(count));
+    }
+
+    private static long checkCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(Long.toString(count));
+        }
+        return count;
+    }
+}
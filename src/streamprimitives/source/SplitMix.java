@@ -0,0 +1,108 @@
+package streamprimitives.source;
+
+/**
+ * Counter-based SplitMix64, the generator behind {@link java.util.SplittableRandom}.
+ * <p>
+ * The n-th output of {@code new SplittableRandom(seed)} is a pure function of
+ * {@code seed + (n + 1) * GOLDEN_GAMMA}, so any element of a random stream can be computed
+ * from its index without touching shared state. Bounded values use rejection sampling; the
+ * extra draws are derived from the element's own key, so they stay a function of the index too.
+ */
+final class SplitMix {
+
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private SplitMix() {
+    }
+
+    static long key(long seed, long index) {
+        return seed + (index + 1) * GOLDEN_GAMMA;
+    }
+
+    /**
+     * Stafford variant 13, as in {@code SplittableRandom.nextLong()}.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * High 32 bits of Stafford variant 4, as in {@code SplittableRandom.nextInt()}.
+     */
+    static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long redraw(long key) {
+        return mix64(key) + GOLDEN_GAMMA;
+    }
+
+    static int nextInt(long key, int origin, int bound) {
+        int r = mix32(key);
+        if (origin < bound) {
+            int n = bound - origin;
+            int m = n - 1;
+            if ((n & m) == 0) {
+                r = (r & m) + origin;
+            } else if (n > 0) {
+                for (int u = r >>> 1; u + m - (r = u % n) < 0; ) {
+                    key = redraw(key);
+                    u = mix32(key) >>> 1;
+                }
+                r += origin;
+            } else {
+                // range not representable as int
+                while (r < origin || r >= bound) {
+                    key = redraw(key);
+                    r = mix32(key);
+                }
+            }
+        }
+        return r;
+    }
+
+    static long nextLong(long key, long origin, long bound) {
+        long r = mix64(key);
+        if (origin < bound) {
+            long n = bound - origin;
+            long m = n - 1;
+            if ((n & m) == 0L) {
+                r = (r & m) + origin;
+            } else if (n > 0L) {
+                for (long u = r >>> 1; u + m - (r = u % n) < 0L; ) {
+                    key = redraw(key);
+                    u = mix64(key) >>> 1;
+                }
+                r += origin;
+            } else {
+                // range not representable as long
+                while (r < origin || r >= bound) {
+                    key = redraw(key);
+                    r = mix64(key);
+                }
+            }
+        }
+        return r;
+    }
+
+    static double nextDouble(long key) {
+        return (mix64(key) >>> 11) * DOUBLE_UNIT;
+    }
+
+    static double nextDouble(long key, double origin, double bound) {
+        double r = nextDouble(key);
+        if (origin < bound) {
+            r = r * (bound - origin) + origin;
+            if (r >= bound) {
+                // correct for rounding
+                r = Math.nextDown(bound);
+            }
+        }
+        return r;
+    }
+}
@@ -0,0 +1,55 @@
+package streamprimitives.startup;
+
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * {@code Main} for short-lived runs: prints the same lines through {@link StaticPipelines},
+ * with no lambda or method reference of its own to bootstrap.
+ * <p>
+ * The stream implementation still uses a few lambdas internally ({@code sum()} is a
+ * {@code reduce} with {@code Integer::sum}), and its classes load on first use. A dynamic
+ * class-data-sharing archive recorded from a training run of this class stores all of them,
+ * including the generated lambda classes, already parsed and linked; see
+ * {@code scripts/train-cds.sh}:
+ * <pre>
+ * java -XX:SharedArchiveFile=target/FastStartMain.jsa -cp target/streamprimitives-1.0-SNAPSHOT.jar \
+ *      streamprimitives.startup.FastStartMain
+ * </pre>
+ * Unlike {@code Main}, it does not go on to reuse consumed streams, which throws
+ * {@code IllegalStateException}; the output is everything {@code Main} prints before that.
+ */
+public final class FastStartMain {
+
+    private FastStartMain() {
+    }
+
+    public static void main(String[] args) {
+        System.out.println(StaticPipelines.boxedSum(1, 2, 3));
+        System.out.println(StaticPipelines.sum(1, 2, 3));
+
+        OptionalDouble avg = StaticPipelines.average(1, 2, 3);
+        System.out.println(avg);
+        System.out.println(avg.getAsDouble());
+
+        DoubleStream.of(3.14).forEach(StaticFunctions.PRINTLN);
+        System.out.println();
+        DoubleStream.of(1.0, 1.1, 1.2).forEach(StaticFunctions.PRINTLN);
+
+        Random random = new Random();
+        for (int i = 0; i < 3; i++) {
+            System.out.println(Math.random());
+        }
+        System.out.println();
+        StaticPipelines.fractions(3).forEach(StaticFunctions.PRINTLN);
+        for (int i = 0; i < 3; i++) {
+            System.out.println(random.nextInt());
+        }
+
+        StaticPipelines.count(5).forEach(StaticFunctions.PRINTLN);
+        IntStream.range(1, 6).forEach(StaticFunctions.PRINTLN);
+        IntStream.rangeClosed(1, 5).forEach(StaticFunctions.PRINTLN);
+    }
+}
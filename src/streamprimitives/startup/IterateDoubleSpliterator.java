@@ -0,0 +1,67 @@
+package streamprimitives.startup;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Double counterpart of {@link IterateIntSpliterator}.
+ */
+final class IterateDoubleSpliterator implements Spliterator.OfDouble {
+
+    private final DoubleUnaryOperator next;
+    private double value;
+    private long remaining;
+    private boolean started;
+
+    IterateDoubleSpliterator(double seed, DoubleUnaryOperator next, long count) {
+        this.value = seed;
+        this.next = next;
+        this.remaining = count;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (remaining <= 0) {
+            return false;
+        }
+        if (started) {
+            value = next.applyAsDouble(value);
+        } else {
+            started = true;
+        }
+        remaining--;
+        action.accept(value);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        long n = remaining;
+        if (n <= 0) {
+            return;
+        }
+        remaining = 0;
+        double current = started ? next.applyAsDouble(value) : value;
+        action.accept(current);
+        while (--n > 0) {
+            current = next.applyAsDouble(current);
+            action.accept(current);
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
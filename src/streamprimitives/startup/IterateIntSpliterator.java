@@ -0,0 +1,70 @@
+package streamprimitives.startup;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * {@code IntStream.iterate(seed, next).limit(count)} as one sized spliterator, without the
+ * iterate spliterator and the slice stage that {@code limit} adds. Like {@code iterate}, it
+ * applies {@code next} only when the following element is requested, so a short-circuiting
+ * terminal operation calls it as often as on the JDK pipeline.
+ */
+final class IterateIntSpliterator implements Spliterator.OfInt {
+
+    private final IntUnaryOperator next;
+    private int value;
+    private long remaining;
+    private boolean started;
+
+    IterateIntSpliterator(int seed, IntUnaryOperator next, long count) {
+        this.value = seed;
+        this.next = next;
+        this.remaining = count;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (remaining <= 0) {
+            return false;
+        }
+        if (started) {
+            value = next.applyAsInt(value);
+        } else {
+            started = true;
+        }
+        remaining--;
+        action.accept(value);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        long n = remaining;
+        if (n <= 0) {
+            return;
+        }
+        remaining = 0;
+        int current = started ? next.applyAsInt(value) : value;
+        action.accept(current);
+        while (--n > 0) {
+            current = next.applyAsInt(current);
+            action.accept(current);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
@@ -0,0 +1,161 @@
+package streamprimitives.startup;
+
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The lambdas of {@code Main} as named classes with one shared instance each.
+ * <p>
+ * The first evaluation of a lambda or method reference runs its {@code invokedynamic}
+ * bootstrap: {@code LambdaMetafactory} spins a hidden class and loads a good part of
+ * {@code java.lang.invoke} the first time any lambda is used. A plain class is loaded and
+ * linked like any other, and a class-data-sharing archive can store it, so a short-lived
+ * process pays neither cost. The instances are stateless and thread-safe.
+ */
+public final class StaticFunctions {
+
+    /**
+     * {@code x -> x} for every element type, including unboxing an {@code Integer}.
+     */
+    public static final Identity IDENTITY = new Identity();
+
+    /**
+     * {@code s -> s.length()}.
+     */
+    public static final StringLength STRING_LENGTH = new StringLength();
+
+    /**
+     * {@code d -> d / 2}.
+     */
+    public static final Half HALF = new Half();
+
+    /**
+     * {@code n -> n + 1}.
+     */
+    public static final Increment INCREMENT = new Increment();
+
+    /**
+     * {@code (a, b) -> a + b} on boxed integers.
+     */
+    public static final IntegerSum INTEGER_SUM = new IntegerSum();
+
+    /**
+     * {@code System.out::println}, except that it prints to whatever {@code System.out} is at
+     * the time of the call rather than the stream the method reference was bound to.
+     */
+    public static final Println PRINTLN = new Println();
+
+    private StaticFunctions() {
+    }
+
+    public static final class Identity
+            implements IntUnaryOperator, LongUnaryOperator, DoubleUnaryOperator, ToIntFunction<Integer> {
+
+        private Identity() {
+        }
+
+        @Override
+        public int applyAsInt(int operand) {
+            return operand;
+        }
+
+        @Override
+        public long applyAsLong(long operand) {
+            return operand;
+        }
+
+        @Override
+        public double applyAsDouble(double operand) {
+            return operand;
+        }
+
+        @Override
+        public int applyAsInt(Integer value) {
+            return value;
+        }
+    }
+
+    public static final class StringLength
+            implements ToIntFunction<String>, ToLongFunction<String>, ToDoubleFunction<String> {
+
+        private StringLength() {
+        }
+
+        @Override
+        public int applyAsInt(String s) {
+            return s.length();
+        }
+
+        @Override
+        public long applyAsLong(String s) {
+            return s.length();
+        }
+
+        @Override
+        public double applyAsDouble(String s) {
+            return s.length();
+        }
+    }
+
+    public static final class Half implements DoubleUnaryOperator {
+
+        private Half() {
+        }
+
+        @Override
+        public double applyAsDouble(double d) {
+            return d / 2;
+        }
+    }
+
+    public static final class Increment implements IntUnaryOperator {
+
+        private Increment() {
+        }
+
+        @Override
+        public int applyAsInt(int n) {
+            return n + 1;
+        }
+    }
+
+    public static final class IntegerSum implements BinaryOperator<Integer> {
+
+        private IntegerSum() {
+        }
+
+        @Override
+        public Integer apply(Integer a, Integer b) {
+            return a + b;
+        }
+    }
+
+    public static final class Println implements IntConsumer, LongConsumer, DoubleConsumer {
+
+        private Println() {
+        }
+
+        @Override
+        public void accept(int value) {
+            System.out.println(value);
+        }
+
+        @Override
+        public void accept(long value) {
+            System.out.println(value);
+        }
+
+        @Override
+        public void accept(double value) {
+            System.out.println(value);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package streamprimitives.startup;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The pipelines of {@code Main} built from {@link StaticFunctions} and prebuilt spliterators
+ * instead of lambdas, for short-lived processes where bootstrapping each lambda shows up in
+ * the run time.
+ * <p>
+ * Each method returns the same elements as its {@code Main} counterpart. {@code iterate(...)
+ * .limit(n)} becomes a single sized spliterator, and {@code flatMapToInt(y -> IntStream.of(y))}
+ * becomes {@code mapToInt}, which needs no stream per element.
+ */
+public final class StaticPipelines {
+
+    private StaticPipelines() {
+    }
+
+    /**
+     * {@code Stream.of(values).reduce(0, (a, b) -> a + b)}.
+     */
+    public static int boxedSum(Integer... values) {
+        return Stream.of(values).reduce(0, StaticFunctions.INTEGER_SUM);
+    }
+
+    /**
+     * {@code Stream.of(values).mapToInt(x -> x).sum()}.
+     */
+    public static int sum(Integer... values) {
+        return Stream.of(values).mapToInt(StaticFunctions.IDENTITY).sum();
+    }
+
+    /**
+     * {@code IntStream.of(values).average()}.
+     */
+    public static OptionalDouble average(int... values) {
+        return IntStream.of(values).average();
+    }
+
+    /**
+     * {@code IntStream.iterate(seed, next).limit(count)}.
+     */
+    public static IntStream iterateInts(int seed, IntUnaryOperator next, long count) {
+        return StreamSupport.intStream(new IterateIntSpliterator(seed, next, checkCount(count)), false);
+    }
+
+    /**
+     * {@code DoubleStream.iterate(seed, next).limit(count)}.
+     */
+    public static DoubleStream iterateDoubles(double seed, DoubleUnaryOperator next, long count) {
+        return StreamSupport.doubleStream(new IterateDoubleSpliterator(seed, next, checkCount(count)), false);
+    }
+
+    private static long checkCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(Long.toString(count));
+        }
+        return count;
+    }
+
+    /**
+     * {@code DoubleStream.iterate(.5, d -> d / 2).limit(count)}.
+     */
+    public static DoubleStream fractions(long count) {
+        return iterateDoubles(.5, StaticFunctions.HALF, count);
+    }
+
+    /**
+     * {@code IntStream.iterate(1, n -> n + 1).limit(count)}.
+     */
+    public static IntStream count(long count) {
+        return iterateInts(1, StaticFunctions.INCREMENT, count);
+    }
+
+    /**
+     * {@code Stream.of(words).mapToInt(s -> s.length())}.
+     */
+    public static IntStream lengths(String... words) {
+        return Stream.of(words).mapToInt(StaticFunctions.STRING_LENGTH);
+    }
+
+    /**
+     * {@code list.stream().flatMapToInt(y -> IntStream.of(y))}.
+     */
+    public static IntStream ints(List<Integer> list) {
+        return list.stream().mapToInt(StaticFunctions.IDENTITY);
+    }
+}
@@ -0,0 +1,111 @@
+package streamprimitives.stats;
+
+import java.util.Arrays;
+
+/**
+ * Streaming estimate of one quantile with the P-square algorithm of Jain and Chlamtac
+ * (CACM 28(10), 1985): five markers whose heights are adjusted with piecewise-parabolic
+ * interpolation, O(1) memory and time per observation. Until five values have been seen the
+ * exact nearest-rank quantile of the sample is returned.
+ */
+final class P2Quantile {
+
+    private final double p;
+    private final double[] heights = new double[5];
+    private final double[] positions = new double[5];
+    private final double[] desired = new double[5];
+    private final double[] increments;
+    private long count;
+
+    P2Quantile(double p) {
+        this.p = p;
+        this.increments = new double[]{0.0d, p / 2, p, (1 + p) / 2, 1.0d};
+    }
+
+    double quantile() {
+        return p;
+    }
+
+    void accept(double x) {
+        if (count < 5) {
+            heights[(int) count++] = x;
+            if (count == 5) {
+                Arrays.sort(heights);
+                for (int i = 0; i < 5; i++) {
+                    positions[i] = i + 1;
+                }
+                desired[0] = 1;
+                desired[1] = 1 + 2 * p;
+                desired[2] = 1 + 4 * p;
+                desired[3] = 3 + 2 * p;
+                desired[4] = 5;
+            }
+            return;
+        }
+        count++;
+
+        int k;
+        if (x < heights[0]) {
+            heights[0] = x;
+            k = 0;
+        } else if (x >= heights[4]) {
+            heights[4] = x;
+            k = 3;
+        } else {
+            k = 0;
+            while (x >= heights[k + 1]) {
+                k++;
+            }
+        }
+        for (int i = k + 1; i < 5; i++) {
+            positions[i]++;
+        }
+        for (int i = 0; i < 5; i++) {
+            desired[i] += increments[i];
+        }
+
+        for (int i = 1; i <= 3; i++) {
+            double d = desired[i] - positions[i];
+            if ((d >= 1 && positions[i + 1] - positions[i] > 1)
+                    || (d <= -1 && positions[i - 1] - positions[i] < -1)) {
+                int sign = d > 0 ? 1 : -1;
+                double candidate = parabolic(i, sign);
+                if (heights[i - 1] < candidate && candidate < heights[i + 1]) {
+                    heights[i] = candidate;
+                } else {
+                    heights[i] = linear(i, sign);
+                }
+                positions[i] += sign;
+            }
+        }
+    }
+
+    private double parabolic(int i, int d) {
+        double[] q = heights;
+        double[] n = positions;
+        return q[i] + d / (n[i + 1] - n[i - 1])
+                * ((n[i] - n[i - 1] + d) * (q[i + 1] - q[i]) / (n[i + 1] - n[i])
+                + (n[i + 1] - n[i] - d) * (q[i] - q[i - 1]) / (n[i] - n[i - 1]));
+    }
+
+    private double linear(int i, int d) {
+        return heights[i] + d * (heights[i + d] - heights[i]) / (positions[i + d] - positions[i]);
+    }
+
+    double estimate() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (count < 5) {
+            double[] sample = Arrays.copyOf(heights, (int) count);
+            Arrays.sort(sample);
+            int rank = (int) Math.ceil(p * sample.length) - 1;
+            return sample[Math.max(0, Math.min(sample.length - 1, rank))];
+        }
+        return heights[2];
+    }
+
+    void reset() {
+        count = 0;
+    }
+}
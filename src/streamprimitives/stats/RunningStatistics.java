@@ -0,0 +1,204 @@
+package streamprimitives.stats;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Count, mean, variance, min, max and approximate quantiles of an unbounded primitive stream,
+ * kept in O(1) memory.
+ * <p>
+ * {@code average()} and {@code summaryStatistics()} are terminal, so over an infinite source
+ * like {@code DoubleStream.generate(Math::random)} they only answer after a {@code limit(n)}.
+ * This is an intermediate observer instead: mean and variance use Welford's update, which stays
+ * accurate without storing the values, and each quantile is tracked with a P-square sketch.
+ * A {@link #snapshot()} can be taken at any time, or delivered every N elements:
+ * <pre>
+ * RunningStatistics stats = new RunningStatistics(0.5, 0.99);
+ * stats.tap(telemetry, 10_000, snapshot -&gt; log(snapshot)).forEach(downstream);
+ * </pre>
+ * The {@code tap} stages are built on {@code peek}, so elements a terminal operation does not
+ * traverse (for example {@code count()} on a sized stream) are not observed.
+ * The {@code accept} methods are not thread-safe. The {@code tap} stages lock this object for
+ * every element, since a stream may still be made parallel after {@code tap} returns; the
+ * lock is uncontended and cheap for sequential streams. The reading methods and
+ * {@link #reset()} take the same lock, so while values arrive through {@code tap}, a snapshot
+ * taken from another thread is never torn between two updates.
+ */
+public final class RunningStatistics implements DoubleConsumer, IntConsumer, LongConsumer {
+
+    private static final double[] DEFAULT_QUANTILES = {0.5, 0.9, 0.99};
+
+    private final double[] quantiles;
+    private final P2Quantile[] sketches;
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Tracks the median, the 90th and the 99th percentile.
+     */
+    public RunningStatistics() {
+        this(DEFAULT_QUANTILES);
+    }
+
+    public RunningStatistics(double... quantiles) {
+        this.quantiles = quantiles.clone();
+        this.sketches = new P2Quantile[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            if (!(quantiles[i] > 0.0d && quantiles[i] < 1.0d)) {
+                throw new IllegalArgumentException("Quantile must be in (0, 1): " + quantiles[i]);
+            }
+            sketches[i] = new P2Quantile(quantiles[i]);
+        }
+    }
+
+    @Override
+    public void accept(double value) {
+        long n = ++count;
+        double delta = value - mean;
+        mean += delta / n;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        for (P2Quantile sketch : sketches) {
+            sketch.accept(value);
+        }
+    }
+
+    @Override
+    public void accept(int value) {
+        accept((double) value);
+    }
+
+    @Override
+    public void accept(long value) {
+        accept((double) value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMean() {
+        return count > 0 ? mean : Double.NaN;
+    }
+
+    /**
+     * Sample variance (divides by {@code count - 1}); {@code NaN} for fewer than two values.
+     */
+    public synchronized double getVariance() {
+        return count > 1 ? m2 / (count - 1) : Double.NaN;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public synchronized double getMin() {
+        return min;
+    }
+
+    public synchronized double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the current estimate of a tracked quantile.
+     *
+     * @throws IllegalArgumentException if {@code q} is not a tracked quantile
+     */
+    public synchronized double getQuantile(double q) {
+        for (P2Quantile sketch : sketches) {
+            if (sketch.quantile() == q) {
+                return sketch.estimate();
+            }
+        }
+        throw new IllegalArgumentException("Quantile " + q + " is not tracked");
+    }
+
+    public synchronized StatisticsSnapshot snapshot() {
+        double[] estimates = new double[sketches.length];
+        for (int i = 0; i < sketches.length; i++) {
+            estimates[i] = sketches[i].estimate();
+        }
+        return new StatisticsSnapshot(count, getMean(), getVariance(), min, max, quantiles.clone(), estimates);
+    }
+
+    public synchronized void reset() {
+        count = 0;
+        mean = 0.0d;
+        m2 = 0.0d;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        for (P2Quantile sketch : sketches) {
+            sketch.reset();
+        }
+    }
+
+    // stream stages
+
+    /**
+     * Returns a stream with the same elements that records each one as it passes.
+     */
+    public DoubleStream tap(DoubleStream stream) {
+        return stream.peek(this::acceptSynchronized);
+    }
+
+    /**
+     * Like {@link #tap(DoubleStream)}, and hands a snapshot to {@code listener} after every
+     * {@code every} elements.
+     */
+    public DoubleStream tap(DoubleStream stream, long every, Consumer<? super StatisticsSnapshot> listener) {
+        checkEvery(every);
+        return stream.peek(value -> acceptSynchronized(value, every, listener));
+    }
+
+    public IntStream tap(IntStream stream) {
+        return stream.peek(this::acceptSynchronized);
+    }
+
+    public IntStream tap(IntStream stream, long every, Consumer<? super StatisticsSnapshot> listener) {
+        checkEvery(every);
+        return stream.peek(value -> acceptSynchronized(value, every, listener));
+    }
+
+    public LongStream tap(LongStream stream) {
+        return stream.peek(this::acceptSynchronized);
+    }
+
+    public LongStream tap(LongStream stream, long every, Consumer<? super StatisticsSnapshot> listener) {
+        checkEvery(every);
+        return stream.peek(value -> acceptSynchronized(value, every, listener));
+    }
+
+    private synchronized void acceptSynchronized(double value) {
+        accept(value);
+    }
+
+    private synchronized void acceptSynchronized(double value, long every,
+                                                 Consumer<? super StatisticsSnapshot> listener) {
+        accept(value);
+        if (count % every == 0) {
+            listener.accept(snapshot());
+        }
+    }
+
+    private static void checkEvery(long every) {
+        if (every <= 0) {
+            throw new IllegalArgumentException("every must be positive: " + every);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -0,0 +1,89 @@
+package streamprimitives.stats;
+
+import java.util.Arrays;
+
+/**
+ * Immutable point-in-time view of a {@link RunningStatistics}.
+ */
+public final class StatisticsSnapshot {
+
+    private final long count;
+    private final double mean;
+    private final double variance;
+    private final double min;
+    private final double max;
+    private final double[] quantiles;
+    private final double[] estimates;
+
+    StatisticsSnapshot(long count, double mean, double variance, double min, double max,
+                       double[] quantiles, double[] estimates) {
+        this.count = count;
+        this.mean = mean;
+        this.variance = variance;
+        this.min = min;
+        this.max = max;
+        this.quantiles = quantiles;
+        this.estimates = estimates;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Sample variance (divides by {@code count - 1}); {@code NaN} for fewer than two values.
+     */
+    public double getVariance() {
+        return variance;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the estimate for one of the quantiles the statistics were configured with.
+     *
+     * @throws IllegalArgumentException if {@code q} is not a tracked quantile
+     */
+    public double getQuantile(double q) {
+        for (int i = 0; i < quantiles.length; i++) {
+            if (quantiles[i] == q) {
+                return estimates[i];
+            }
+        }
+        throw new IllegalArgumentException("Quantile " + q + " is not tracked; tracked: " + Arrays.toString(quantiles));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("StatisticsSnapshot{count=").append(count)
+                .append(", mean=").append(mean)
+                .append(", stddev=").append(getStandardDeviation())
+                .append(", min=").append(min)
+                .append(", max=").append(max);
+        for (int i = 0; i < quantiles.length; i++) {
+            double percent = quantiles[i] * 100;
+            sb.append(", p");
+            if (percent == Math.rint(percent)) {
+                sb.append((long) percent);
+            } else {
+                sb.append(percent);
+            }
+            sb.append('=').append(estimates[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,28 @@
+package streamprimitives.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ReplayCacheTest {
+
+    @Test
+    void isCachedDoesNotChangeEvictionOrder() {
+        ReplayCache cache = new ReplayCache(2 * 10 * Integer.BYTES);
+        ReplayableIntStream first = cache.ints(() -> IntStream.range(0, 10));
+        ReplayableIntStream second = cache.ints(() -> IntStream.range(10, 20));
+        ReplayableIntStream third = cache.ints(() -> IntStream.range(20, 30));
+
+        first.stream().sum();
+        second.stream().sum();
+        assertTrue(first.isCached());
+        third.stream().sum();
+
+        assertFalse(first.isCached());
+        assertTrue(second.isCached());
+        assertTrue(third.isCached());
+    }
+}
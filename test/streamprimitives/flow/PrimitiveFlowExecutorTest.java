@@ -0,0 +1,30 @@
+package streamprimitives.flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveFlowExecutorTest {
+
+    @Test
+    void parallelPipelineRunsSequentiallyOnTheSubscriptionThread() {
+        AtomicBoolean onCommonPool = new AtomicBoolean();
+        long[] next = new long[1];
+
+        try (PrimitiveFlowExecutor executor = new PrimitiveFlowExecutor()) {
+            PrimitiveFlowExecutor.consumeInts(executor.publishInts(() -> IntStream.range(0, 100_000).parallel()
+                    .peek(value -> onCommonPool.compareAndSet(false,
+                            Thread.currentThread() instanceof ForkJoinWorkerThread))), value -> {
+                assertEquals(next[0]++, value);
+            }).join();
+        }
+
+        assertEquals(100_000, next[0]);
+        assertFalse(onCommonPool.get());
+    }
+}
@@ -0,0 +1,31 @@
+package streamprimitives.source;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+import org.junit.jupiter.api.Test;
+
+class SequencesTest {
+
+    @Test
+    void geometricPowerOfTwoMatchesIterate() {
+        assertArrayEquals(DoubleStream.iterate(3.0d, d -> d / 2).limit(50).toArray(),
+                Sequences.geometric(3.0d, 0.5d, 50).toArray());
+    }
+
+    @Test
+    void geometricPowerOfTwoSaturatesFarIntoTheStream() {
+        Spliterator.OfDouble tail = Sequences.geometricSpliterator(1.0d, 8.0d, Long.MAX_VALUE);
+        Spliterator.OfDouble head = tail.trySplit();
+        double[] firsts = new double[2];
+
+        head.tryAdvance((double value) -> firsts[0] = value);
+        tail.tryAdvance((double value) -> firsts[1] = value);
+
+        assertEquals(1.0d, firsts[0]);
+        assertEquals(Double.POSITIVE_INFINITY, firsts[1]);
+    }
+}
@@ -0,0 +1,39 @@
+package streamprimitives.startup;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class StaticPipelinesTest {
+
+    @Test
+    void iterateIntsMatchesIterateWithLimit() {
+        IntUnaryOperator next = value -> value * 3 + 1;
+
+        assertArrayEquals(IntStream.iterate(1, next).limit(10).toArray(),
+                StaticPipelines.iterateInts(1, next, 10).toArray());
+    }
+
+    @Test
+    void iterateIntsAppliesNextAsOftenAsIterateWhenShortCircuiting() {
+        AtomicInteger jdkCalls = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+
+        IntStream.iterate(0, value -> {
+            jdkCalls.incrementAndGet();
+            return value + 1;
+        }).limit(100).anyMatch(value -> value == 5);
+        StaticPipelines.iterateInts(0, value -> {
+            calls.incrementAndGet();
+            return value + 1;
+        }, 100).anyMatch(value -> value == 5);
+
+        assertEquals(5, jdkCalls.get());
+        assertEquals(jdkCalls.get(), calls.get());
+    }
+}
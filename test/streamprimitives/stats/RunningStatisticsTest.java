@@ -0,0 +1,33 @@
+package streamprimitives.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RunningStatisticsTest {
+
+    @Test
+    void tapStaysExactWhenStreamTurnsParallelAfterward() {
+        RunningStatistics stats = new RunningStatistics();
+
+        long sum = stats.tap(IntStream.range(0, 2_000_000)).parallel().asLongStream().sum();
+
+        assertEquals(1_999_999_000_000L, sum);
+        assertEquals(2_000_000, stats.getCount());
+        assertEquals(999_999.5, stats.getMean(), 1e-6);
+    }
+
+    @Test
+    void tapWithListenerStaysExactWhenStreamTurnsParallelAfterward() {
+        RunningStatistics stats = new RunningStatistics();
+        long[] snapshots = new long[1];
+
+        stats.tap(IntStream.range(0, 2_000_000), 1000, snapshot -> snapshots[0]++).parallel().forEach(value -> { });
+
+        assertEquals(2_000_000, stats.getCount());
+        assertEquals(999_999.5, stats.getMean(), 1e-6);
+        assertEquals(2_000, snapshots[0]);
+    }
+}